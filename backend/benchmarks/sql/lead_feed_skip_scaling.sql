@@ -0,0 +1,46 @@
+-- Lead feed latency vs. skips per dealer.
+--
+-- Compares the old NOT MEMBER OF translation (correlated IN-subquery) with the NOT EXISTS
+-- anti-join used by LeadJpaRepository.findLeadsWithFilters, at increasing skip counts for one dealer.
+-- Run against a Flyway-migrated scratch database; everything happens inside a rolled-back transaction:
+--
+--   psql -d tyreplus_bench -f backend/benchmarks/sql/lead_feed_skip_scaling.sql
+--
+-- Read the "Execution Time" lines of each EXPLAIN ANALYZE block.
+
+\set leads 200000
+\set dealer '''00000000-0000-0000-0000-00000000d001'''
+
+BEGIN;
+
+-- The dealer under test plus 50 others whose skips act as background noise.
+INSERT INTO dealers (id, business_name, owner_name, email, phone_number, street, city, zip_code, country,
+                     opening_time, closing_time)
+SELECT CASE WHEN g = 0 THEN :dealer::uuid ELSE gen_random_uuid() END,
+       'Bench Dealer ' || g, 'Bench Owner', 'bench' || g || '@example.invalid', '8' || lpad(g::text, 9, '0'),
+       'Street', 'City', '000000', 'India', '09:00', '18:00'
+FROM generate_series(0, 50) g;
+
+INSERT INTO leads (id, customer_name, customer_phone, vehicle_model, status, lead_cost, created_at)
+SELECT gen_random_uuid(), 'Bench Customer', '9' || lpad(g::text, 9, '0'), 'Bench Model', 'NEW', 100,
+       now() - (g || ' seconds')::interval
+FROM generate_series(1, :leads) g;
+
+INSERT INTO lead_skips (lead_id, dealer_id)
+SELECT l.id, d.id
+FROM leads l TABLESAMPLE SYSTEM (20)
+JOIN LATERAL (SELECT id FROM dealers WHERE id <> :dealer::uuid AND l.id IS NOT NULL
+              ORDER BY random() LIMIT 1) d ON true;
+
+CREATE TEMP TABLE bench_leads AS SELECT id, row_number() OVER () AS rn FROM leads;
+
+\set skips 0
+\ir lead_feed_skip_scaling_step.sql
+\set skips 1000
+\ir lead_feed_skip_scaling_step.sql
+\set skips 10000
+\ir lead_feed_skip_scaling_step.sql
+\set skips 100000
+\ir lead_feed_skip_scaling_step.sql
+
+ROLLBACK;
@@ -0,0 +1,26 @@
+-- One measurement step for lead_feed_skip_scaling.sql: tops the dealer up to :skips skipped leads,
+-- then times the first feed page with both skip-filter forms.
+
+INSERT INTO lead_skips (lead_id, dealer_id)
+SELECT id, :dealer::uuid FROM bench_leads WHERE rn <= :skips
+ON CONFLICT DO NOTHING;
+ANALYZE leads;
+ANALYZE lead_skips;
+
+\echo '== skips per dealer:' :skips '— NOT MEMBER OF (correlated IN) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT l.* FROM leads l
+WHERE l.status = 'NEW'
+  AND NOT (:dealer::uuid IN (SELECT s.dealer_id FROM lead_skips s WHERE s.lead_id = l.id))
+  AND l.purchased_by_dealer_id IS NULL
+ORDER BY l.created_at DESC
+LIMIT 20;
+
+\echo '== skips per dealer:' :skips '— NOT EXISTS anti-join =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT l.* FROM leads l
+WHERE l.status = 'NEW'
+  AND NOT EXISTS (SELECT 1 FROM lead_skips s WHERE s.lead_id = l.id AND s.dealer_id = :dealer::uuid)
+  AND l.purchased_by_dealer_id IS NULL
+ORDER BY l.created_at DESC
+LIMIT 20;
@@ -0,0 +1,49 @@
+package com.tyreplus.dealer.domain.entity;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * Wallet credit arithmetic on the purchase and recharge paths.
+ */
+@State(Scope.Thread)
+public class WalletBenchmark extends BenchmarkDefaults {
+
+    private Wallet wallet;
+
+    @Setup
+    public void setUp() {
+        wallet = new Wallet(UUID.randomUUID(), 0);
+    }
+
+    // Balances are reset inside the benchmark so no per-invocation setup skews the numbers
+
+    @Benchmark
+    public Wallet.DeductionBreakdown deductFromPurchasedOnly() {
+        reset();
+        return wallet.deduct(50);
+    }
+
+    @Benchmark
+    public Wallet.DeductionBreakdown deductSpillingIntoBonus() {
+        reset();
+        return wallet.deduct(120);
+    }
+
+    @Benchmark
+    public Wallet credit() {
+        reset();
+        wallet.credit(500, 50);
+        return wallet;
+    }
+
+    private void reset() {
+        wallet.setPurchasedCredits(60);
+        wallet.setBonusCredits(100);
+    }
+}
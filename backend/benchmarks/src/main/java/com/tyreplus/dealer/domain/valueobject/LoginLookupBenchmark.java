@@ -0,0 +1,73 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import com.tyreplus.dealer.domain.entity.Dealer;
+import com.tyreplus.dealer.infrastructure.persistence.entity.DealerJpaEntity;
+import com.tyreplus.dealer.infrastructure.persistence.mapper.DealerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-process part of a sign-in lookup: classifying the identifier, then materialising
+ * either the whole dealer aggregate (old path) or just the credential projection (new path).
+ * The database round trip itself is not measured here.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginLookupBenchmark extends BenchmarkDefaults {
+
+    private final DealerMapper dealerMapper = new DealerMapper();
+
+    private DealerJpaEntity row;
+
+    @Setup
+    public void setUp() {
+        row = DealerJpaEntity.builder()
+                .id(UUID.randomUUID())
+                .businessName("Kumar Tyres")
+                .ownerName("Rajesh Kumar")
+                .isVerified(true)
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuv")
+                .email("kumar@example.com")
+                .phoneNumber("9876543210")
+                .street("12 MG Road")
+                .city("Bengaluru")
+                .state("Karnataka")
+                .zipCode("560001")
+                .country("India")
+                .openingTime(LocalTime.of(9, 0))
+                .closingTime(LocalTime.of(18, 0))
+                .openDays(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.SATURDAY))
+                .build();
+    }
+
+    @Benchmark
+    public LoginIdentifier parsePhone() {
+        return LoginIdentifier.parse(" 98765-43210 ");
+    }
+
+    @Benchmark
+    public LoginIdentifier parseEmail() {
+        return LoginIdentifier.parse("Kumar@Example.com");
+    }
+
+    @Benchmark
+    public Dealer fullDealer() {
+        return dealerMapper.toDomainEntity(row);
+    }
+
+    @Benchmark
+    public DealerCredentials credentials() {
+        return new DealerCredentials(row.getId(), row.getPhoneNumber(), row.getPasswordHash(),
+                row.isVerified(), row.getBusinessName());
+    }
+}
@@ -0,0 +1,41 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+
+/**
+ * Tyre size parsing (metric and inch-width) and the long encoding round trip.
+ */
+public class TyreSizeBenchmark extends BenchmarkDefaults {
+
+    private TyreSize size;
+    private long encoded;
+
+    @Setup
+    public void setUp() {
+        size = TyreSize.parse("195/55 R16 91V");
+        encoded = size.encode();
+    }
+
+    @Benchmark
+    public TyreSize parseMetric() {
+        return TyreSize.parse("195/55R16 91V");
+    }
+
+    @Benchmark
+    public TyreSize parseInch() {
+        return TyreSize.parse("2.75-17");
+    }
+
+    @Benchmark
+    public long encode() {
+        return size.encode();
+    }
+
+    @Benchmark
+    public TyreSize decode() {
+        return TyreSize.decode(encoded);
+    }
+}
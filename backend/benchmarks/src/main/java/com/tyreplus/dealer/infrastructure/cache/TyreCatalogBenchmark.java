@@ -0,0 +1,70 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import com.tyreplus.dealer.domain.entity.Tyre;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Faceted catalog search over 10k tyres: an exact filter, a typo in the size, a price range
+ * with no other filter, and the first page of the whole catalog.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TyreCatalogBenchmark extends BenchmarkDefaults {
+
+    private static final List<String> BRANDS = List.of("MRF", "CEAT", "Apollo", "Bridgestone", "Michelin",
+            "Goodyear", "JK Tyre", "Yokohama", "Continental", "Pirelli");
+    private static final int[] WIDTHS = {145, 155, 165, 175, 185, 195, 205, 215, 225, 235};
+    private static final int[] PROFILES = {45, 50, 55, 60, 65, 70, 80};
+    private static final int[] RIMS = {13, 14, 15, 16, 17};
+
+    private TyreCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        List<Tyre> tyres = new ArrayList<>();
+        int n = 0;
+        while (tyres.size() < 10_000) {
+            String brand = BRANDS.get(n % BRANDS.size());
+            tyres.add(Tyre.builder()
+                    .id(UUID.randomUUID())
+                    .brand(brand)
+                    .pattern("Pattern " + (n % 40))
+                    .size(WIDTHS[n % WIDTHS.length] + "/" + PROFILES[(n / 3) % PROFILES.length]
+                            + " R" + RIMS[(n / 7) % RIMS.length])
+                    .price(2500.0 + (n * 37) % 12000)
+                    .features(List.of("Low Noise", "High Grip"))
+                    .build());
+            n++;
+        }
+        catalog = TyreCatalog.of(tyres);
+    }
+
+    @Benchmark
+    public TyreSearchResult exactFilters() {
+        return catalog.search(new TyreSearchCriteria("mrf", "195/55 R16", null, null, null, 0, 20));
+    }
+
+    @Benchmark
+    public TyreSearchResult sizeTypo() {
+        return catalog.search(new TyreSearchCriteria(null, "195/56R16", null, null, null, 0, 20));
+    }
+
+    @Benchmark
+    public TyreSearchResult priceRange() {
+        return catalog.search(new TyreSearchCriteria(null, null, null, 4000.0, 6000.0, 2, 20));
+    }
+
+    @Benchmark
+    public TyreSearchResult firstPage() {
+        return catalog.search(new TyreSearchCriteria(null, null, null, null, null, 0, 20));
+    }
+}
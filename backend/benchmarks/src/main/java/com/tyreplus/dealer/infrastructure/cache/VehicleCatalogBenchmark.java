@@ -0,0 +1,72 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import com.tyreplus.dealer.domain.entity.Vehicle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The four picker cascade lookups against a catalog of about 20k rows, plus a full rebuild.
+ */
+public class VehicleCatalogBenchmark extends BenchmarkDefaults {
+
+    private List<Vehicle> rows;
+    private VehicleCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>();
+        for (String type : List.of("2W", "4W")) {
+            for (int make = 0; make < 40; make++) {
+                for (int model = 0; model < 25; model++) {
+                    for (int variant = 0; variant < 5; variant++) {
+                        for (int size = 0; size < 2; size++) {
+                            rows.add(Vehicle.builder()
+                                    .type(type)
+                                    .make("Make " + make)
+                                    .model("Model " + make + "-" + model)
+                                    .variant("Variant " + variant)
+                                    .tyreSize((165 + size * 10) + "/80 R14")
+                                    .build());
+                        }
+                    }
+                }
+            }
+        }
+        catalog = VehicleCatalog.of(rows);
+    }
+
+    @Benchmark
+    public List<String> makes() {
+        return catalog.makes("4W");
+    }
+
+    @Benchmark
+    public List<String> models() {
+        return catalog.models("4W", "Make 17");
+    }
+
+    @Benchmark
+    public List<String> variants() {
+        return catalog.variants("4W", "Make 17", "Model 17-12");
+    }
+
+    @Benchmark
+    public List<String> tyreSizes() {
+        return catalog.tyreSizes("Make 17", "Model 17-12", "Variant 3");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public VehicleCatalog rebuild() {
+        return VehicleCatalog.of(rows);
+    }
+}
@@ -0,0 +1,85 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import com.tyreplus.dealer.infrastructure.persistence.entity.TyreJpaEntity;
+import com.tyreplus.dealer.infrastructure.persistence.repository.SpringDataTyreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Tyre catalog reloads through the adapter's public API. Every reload maps the entities,
+ * including the comma-separated features split, and hashes them; a changed table also
+ * builds the new snapshot and its indexes, an unchanged one stops there.
+ * The table read is stubbed out, so only the in-process work is measured.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TyreCatalogReloadBenchmark extends BenchmarkDefaults {
+
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private TyreRepositoryAdapter unchanged;
+    private TyreRepositoryAdapter changing;
+
+    @Setup
+    public void setUp() {
+        List<TyreJpaEntity> table = table(0);
+        // Every read of the changing table differs from the one before by one price
+        List<List<TyreJpaEntity>> versions = List.of(table, table(1));
+        int[] reads = {0};
+        unchanged = new TyreRepositoryAdapter(stub(() -> table), new SimpleMeterRegistry());
+        changing = new TyreRepositoryAdapter(stub(() -> versions.get(reads[0]++ % 2)), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<String> reloadUnchanged() {
+        unchanged.reload();
+        return unchanged.getAllBrands();
+    }
+
+    @Benchmark
+    public List<String> reloadChanged() {
+        changing.reload();
+        return changing.getAllBrands();
+    }
+
+    private List<TyreJpaEntity> table(int firstPriceDelta) {
+        List<TyreJpaEntity> table = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            table.add(TyreJpaEntity.builder()
+                    .id(new UUID(0, i))
+                    .brand(i % 2 == 0 ? "MRF" : "CEAT")
+                    .pattern("Pattern " + (i % 40))
+                    .size((145 + 10 * (i % 10)) + "/" + (45 + 5 * (i % 7)) + " R" + (13 + i % 5))
+                    .price(2500.0 + (i * 37) % 12000 + (i == 0 ? firstPriceDelta : 0))
+                    .productCode("P-" + i)
+                    .features(i % 3 == 0 ? null : "Low Noise,High Grip,Wet Braking,Long Tread Life")
+                    .warrantyYears(5)
+                    .build());
+        }
+        return table;
+    }
+
+    // Only findAll is called on a reload
+    private static SpringDataTyreRepository stub(Supplier<List<TyreJpaEntity>> findAll) {
+        return (SpringDataTyreRepository) Proxy.newProxyInstance(
+                SpringDataTyreRepository.class.getClassLoader(),
+                new Class<?>[]{SpringDataTyreRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return findAll.get();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
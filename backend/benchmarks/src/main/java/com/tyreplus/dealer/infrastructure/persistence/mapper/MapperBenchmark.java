@@ -0,0 +1,73 @@
+package com.tyreplus.dealer.infrastructure.persistence.mapper;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import com.tyreplus.dealer.domain.entity.Dealer;
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.valueobject.Address;
+import com.tyreplus.dealer.domain.valueobject.BusinessHours;
+import com.tyreplus.dealer.domain.valueobject.ContactDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Domain to JPA and back, as paid on every adapter read and write.
+ */
+public class MapperBenchmark extends BenchmarkDefaults {
+
+    private final LeadMapper leadMapper = new LeadMapper();
+    private final DealerMapper dealerMapper = new DealerMapper();
+
+    private Lead lead;
+    private Dealer dealer;
+
+    @Setup
+    public void setUp() {
+        Set<UUID> skips = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            skips.add(UUID.randomUUID());
+        }
+        lead = Lead.builder()
+                .id(UUID.randomUUID())
+                .customerName("Rajesh Kumar")
+                .customerPhone("9876543210")
+                .customerEmail("rajesh.kumar@example.com")
+                .vehicleModel("Maruti Suzuki Swift")
+                .vehicleYear("2022")
+                .status(LeadStatus.NEW)
+                .leadCost(50)
+                .createdAt(LocalDateTime.now())
+                .skippedByDealerIds(skips)
+                .build();
+
+        dealer = Dealer.builder()
+                .id(UUID.randomUUID())
+                .businessName("Kumar Tyres")
+                .ownerName("Rajesh Kumar")
+                .isVerified(true)
+                .passwordHash("$2a$12$abcdefghijklmnopqrstuv")
+                .contactDetails(new ContactDetails("kumar@example.com", "9876543210", null))
+                .address(new Address("12 MG Road", "Bengaluru", "Karnataka", "560001", "India"))
+                .businessHours(new BusinessHours(LocalTime.of(9, 0), LocalTime.of(18, 0),
+                        EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.SATURDAY)))
+                .build();
+    }
+
+    @Benchmark
+    public Lead leadRoundTrip() {
+        return leadMapper.toDomainEntity(leadMapper.toJpaEntity(lead));
+    }
+
+    @Benchmark
+    public Dealer dealerRoundTrip() {
+        return dealerMapper.toDomainEntity(dealerMapper.toJpaEntity(dealer));
+    }
+}
@@ -0,0 +1,48 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and token parse on every authenticated request.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark extends BenchmarkDefaults {
+
+    private static final String SECRET =
+            "tyreplus-dealer-app-secret-key-for-jwt-token-generation-minimum-256-bits-required-for-hmac-sha256";
+
+    private JwtUtil jwtUtil;
+    private String userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 900000L);
+        userId = UUID.randomUUID().toString();
+        token = jwtUtil.generateToken("9876543210", userId, "DEALER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("9876543210", userId, "DEALER");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean parseAndValidate() {
+        // What JwtAuthenticationFilter pays per request: one verification, claims reused
+        Claims claims = jwtUtil.parseClaims(token);
+        return jwtUtil.validateToken(claims, claims.getSubject());
+    }
+}
@@ -0,0 +1,67 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.tyreplus.dealer.BenchmarkDefaults;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password check under a login burst: more concurrent callers than cores.
+ *
+ * inline is what login did before: every caller hashes on its own thread, so all cores are
+ * busy hashing. pooled goes through PasswordHashingService: throughput is capped at one hash
+ * per core at a time and the extra callers queue, trading per-login latency for cores the
+ * rest of the app can still use. Compare ops/s and the sample-time percentiles per strength.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+public class PasswordHashingBenchmark extends BenchmarkDefaults {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private PasswordHashingService service;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        // Queue and wait sized so nothing is shed: this measures queueing, not rejection
+        service = new PasswordHashingService(encoder, new SimpleMeterRegistry(),
+                "bcrypt", strength, 0, 1024, Duration.ofMinutes(5));
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public boolean inline() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public boolean pooled() {
+        return service.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,19 @@
+package com.tyreplus.dealer.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for the dealer's purchases per day, oldest first.
+ * Every day in the range is present; dates are on the dealer's calendar (timeZone).
+ */
+public record DailyPurchasesResponse(
+        String timeZone,
+        List<Day> days
+) {
+    public record Day(
+            String date,
+            int purchases,
+            long creditsSpent
+    ) {
+    }
+}
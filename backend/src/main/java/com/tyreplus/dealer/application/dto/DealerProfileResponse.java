@@ -11,7 +11,8 @@ public record DealerProfileResponse(
         String mobile,
         String email,
         String address,
-        String avatar
+        String avatar,
+        String timeZone
 ) {
 }
 
@@ -0,0 +1,38 @@
+package com.tyreplus.dealer.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paged feed (leads, wallet transactions): the (createdAt, id) of the
+ * last row on a page. Serialized as an opaque URL-safe token so clients never build it themselves.
+ */
+public record KeysetCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    public KeysetCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires both createdAt and id");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, comma)),
+                    UUID.fromString(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.tyreplus.dealer.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for the cursor-paginated lead feed.
+ * nextCursor is null when there are no more leads.
+ */
+public record LeadFeedResponse(
+        List<LeadDetailsResponse> leads,
+        String nextCursor
+) {
+}
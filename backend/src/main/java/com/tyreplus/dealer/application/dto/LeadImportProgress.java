@@ -0,0 +1,22 @@
+package com.tyreplus.dealer.application.dto;
+
+import java.util.List;
+
+/**
+ * Progress line emitted after every committed batch of a lead import, and once more
+ * with done=true at the end. Counts are cumulative; errors are those of this batch only.
+ */
+public record LeadImportProgress(
+        int batch,
+        long rowsRead,
+        long inserted,
+        long rejected,
+        List<RowError> errors,
+        boolean done
+) {
+    public record RowError(
+            long line,
+            String message
+    ) {
+    }
+}
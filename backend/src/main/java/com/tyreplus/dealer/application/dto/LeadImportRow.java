@@ -0,0 +1,15 @@
+package com.tyreplus.dealer.application.dto;
+
+/**
+ * One lead as it arrives from a partner feed (a CSV record or an NDJSON line).
+ * Field names double as the accepted CSV headers, case- and underscore-insensitive.
+ */
+public record LeadImportRow(
+        String customerName,
+        String customerPhone,
+        String customerEmail,
+        String vehicleModel,
+        String vehicleYear,
+        Integer leadCost
+) {
+}
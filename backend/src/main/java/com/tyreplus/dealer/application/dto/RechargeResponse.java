@@ -0,0 +1,12 @@
+package com.tyreplus.dealer.application.dto;
+
+/**
+ * Response DTO for a completed recharge: the resulting balances and the credit transaction.
+ */
+public record RechargeResponse(
+        int totalCredits,
+        int purchasedCredits,
+        int bonusCredits,
+        TransactionResponse transaction
+) {
+}
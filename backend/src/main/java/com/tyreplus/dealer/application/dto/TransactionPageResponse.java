@@ -0,0 +1,13 @@
+package com.tyreplus.dealer.application.dto;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of wallet transactions, newest first.
+ * nextCursor is null when there are no older transactions.
+ */
+public record TransactionPageResponse(
+        List<TransactionResponse> transactions,
+        String nextCursor
+) {
+}
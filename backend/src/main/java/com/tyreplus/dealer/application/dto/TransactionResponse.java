@@ -0,0 +1,13 @@
+package com.tyreplus.dealer.application.dto;
+
+/**
+ * Response DTO for a single wallet transaction.
+ */
+public record TransactionResponse(
+        String id,
+        String title,
+        String date,
+        int credits,
+        String type
+) {
+}
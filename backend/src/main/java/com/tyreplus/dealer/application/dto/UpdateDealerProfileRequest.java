@@ -42,7 +42,9 @@ public record UpdateDealerProfileRequest(
         
         java.util.List<String> services,
         
-        java.util.List<String> brands
+        java.util.List<String> brands,
+
+        String timeZone // optional IANA zone, e.g. "Asia/Kolkata"; unchanged when null
 ) {
     public record AddressRequest(
             String shopNumber,
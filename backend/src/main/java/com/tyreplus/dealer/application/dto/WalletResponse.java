@@ -1,22 +1,13 @@
 package com.tyreplus.dealer.application.dto;
 
-import java.util.List;
-
 /**
- * Response DTO for Wallet details.
+ * Response DTO for Wallet balances.
  * Java 21 Record following DDD principles.
+ * Transaction history is paged separately (see TransactionPageResponse).
  */
 public record WalletResponse(
         int totalCredits,
         int purchasedCredits,
-        int bonusCredits,
-        List<TransactionResponse> transactions
+        int bonusCredits
 ) {
-    public record TransactionResponse(
-            String id,
-            String title,
-            String date,
-            int credits,
-            String type
-    ) {}
 }
@@ -0,0 +1,15 @@
+package com.tyreplus.dealer.application.exception;
+
+/**
+ * Exception thrown when the payment gateway cannot be reached or is failing.
+ */
+public class PaymentGatewayException extends RuntimeException {
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
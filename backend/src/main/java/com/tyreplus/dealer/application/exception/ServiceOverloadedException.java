@@ -0,0 +1,19 @@
+package com.tyreplus.dealer.application.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed.
+ * The client should retry after the given number of seconds.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
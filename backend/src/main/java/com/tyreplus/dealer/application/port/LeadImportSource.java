@@ -0,0 +1,27 @@
+package com.tyreplus.dealer.application.port;
+
+import com.tyreplus.dealer.application.dto.LeadImportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Port for a partner lead feed, read one record at a time. Implementations live in the
+ * infrastructure layer and decide the wire format.
+ */
+public interface LeadImportSource extends Closeable {
+
+    /**
+     * Either a parsed row or the reason it could not be parsed; line is 1-based.
+     */
+    record Record(long line, LeadImportRow row, String error) {
+    }
+
+    /**
+     * A record that cannot be parsed is returned with an error and reading continues.
+     *
+     * @return the next record, or null at end of input
+     * @throws IOException if the input cannot be read, or is malformed past recovery
+     */
+    Record next() throws IOException;
+}
@@ -12,9 +12,12 @@ import com.tyreplus.dealer.domain.repository.WalletRepository;
 import com.tyreplus.dealer.domain.valueobject.Address;
 import com.tyreplus.dealer.domain.valueobject.BusinessHours;
 import com.tyreplus.dealer.domain.valueobject.ContactDetails;
+import com.tyreplus.dealer.domain.valueobject.DealerCredentials;
+import com.tyreplus.dealer.domain.valueobject.LoginIdentifier;
 import com.tyreplus.dealer.infrastructure.security.JwtUtil;
+import com.tyreplus.dealer.infrastructure.security.PasswordHashingService;
 import com.tyreplus.dealer.infrastructure.security.RefreshTokenService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.tyreplus.dealer.infrastructure.security.TokenRevocationService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +38,8 @@ public class AuthService {
     private final OtpService otpService;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordHashingService passwordHashingService;
 
     // Constructor updated to include WalletRepository
     public AuthService(DealerRepository dealerRepository,
@@ -43,13 +47,15 @@ public class AuthService {
             OtpService otpService,
             JwtUtil jwtUtil,
             RefreshTokenService refreshTokenService,
-            PasswordEncoder passwordEncoder) {
+            TokenRevocationService tokenRevocationService,
+            PasswordHashingService passwordHashingService) {
         this.dealerRepository = dealerRepository;
         this.walletRepository = walletRepository;
         this.otpService = otpService;
         this.jwtUtil = jwtUtil;
         this.refreshTokenService = refreshTokenService;
-        this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     public String generateOtp(String mobile) {
@@ -61,28 +67,34 @@ public class AuthService {
      */
     public LoginResponse login(LoginRequest request) {
 
-        Dealer dealer = dealerRepository.findByPhoneNumberOrEmail(request.identifier())
+        // Classified up front so the lookup probes only the phone or the lower(email) index
+        LoginIdentifier identifier = LoginIdentifier.parse(request.identifier());
+        DealerCredentials credentials = dealerRepository.findCredentials(identifier)
                 .orElseThrow(() -> new UserNotFoundException(
                         "Dealer not found with : " + request.identifier() + ". Please register first."));
 
         // ---- OTP LOGIN ----
         if (request.otp() != null && !request.otp().isBlank()) {
-            otpService.validateOtp(dealer.getContactDetails().phoneNumber(), request.otp());
-            return issueTokens(dealer);
+            otpService.validateOtp(credentials.phoneNumber(), request.otp());
+            return issueTokens(credentials.dealerId(), credentials.phoneNumber(), credentials.businessName());
         }
 
         // ---- PASSWORD LOGIN ----
         if (request.password() != null && !request.password().isBlank()) {
 
-            if (dealer.getPasswordHash() == null) {
+            if (credentials.passwordHash() == null) {
                 throw new IllegalArgumentException("Password login not enabled");
             }
 
-            if (!passwordEncoder.matches(request.password(), dealer.getPasswordHash())) {
+            if (!passwordHashingService.matches(request.password(), credentials.passwordHash())) {
                 throw new IllegalArgumentException("Invalid credentials");
             }
 
-            return issueTokens(dealer);
+            // Transparent upgrade when the hashing algorithm or cost has been raised
+            passwordHashingService.rehashIfNeeded(request.password(), credentials.passwordHash())
+                    .ifPresent(rehashed -> dealerRepository.updatePasswordHash(credentials.dealerId(), rehashed));
+
+            return issueTokens(credentials.dealerId(), credentials.phoneNumber(), credentials.businessName());
         }
 
         // ---- INVALID REQUEST ----
@@ -128,7 +140,7 @@ public class AuthService {
                 .businessName(request.businessName())
                 .ownerName(request.ownerName())
                 .isVerified(true) // Auto-verify upon successful OTP registration
-                .passwordHash(passwordEncoder.encode(request.password())) // FIX: Encoding the password
+                .passwordHash(passwordHashingService.encode(request.password())) // FIX: Encoding the password
                 .contactDetails(contactDetails)
                 .address(address)
                 .businessHours(businessHours)
@@ -144,22 +156,21 @@ public class AuthService {
         return issueTokens(savedDealer);
     }
 
-    @Transactional
     public void setPassword(UUID dealerId, String rawPassword) {
 
-        Dealer dealer = dealerRepository.findById(dealerId)
-                .orElseThrow(() -> new IllegalArgumentException("Dealer not found"));
-
-        dealer.setPasswordHash(passwordEncoder.encode(rawPassword));
-
-        dealerRepository.save(dealer);
+        if (!dealerRepository.updatePasswordHash(dealerId, passwordHashingService.encode(rawPassword))) {
+            throw new IllegalArgumentException("Dealer not found");
+        }
     }
 
+    /**
+     * Everything that can fail runs before the presented token is retired, and the rotation
+     * shares this transaction, so a failed refresh leaves the client's token usable.
+     */
+    @Transactional
     public LoginResponse refresh(String refreshToken) {
 
-        UUID dealerId = refreshTokenService.validate(refreshToken);
-
-        Dealer dealer = dealerRepository.findById(dealerId)
+        Dealer dealer = dealerRepository.findById(refreshTokenService.validate(refreshToken))
                 .orElseThrow(() -> new UserNotFoundException("Dealer not found"));
 
         String accessToken = jwtUtil.generateToken(
@@ -167,32 +178,54 @@ public class AuthService {
                 dealer.getId().toString(),
                 "dealer");
 
-        return new LoginResponse(accessToken, refreshToken, toUserInfo(dealer));
+        // Single-use refresh tokens: the presented one is retired as the new one is issued.
+        // A concurrent refresh with the same token loses here rather than minting a second session.
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        return new LoginResponse(accessToken, rotation.refreshToken(), toUserInfo(dealer));
     }
 
     public void logout(String refreshToken) {
+        // Access tokens are verified statelessly, so cut off the ones already issued too
+        UUID dealerId = null;
+        try {
+            dealerId = refreshTokenService.validate(refreshToken);
+        } catch (RuntimeException e) {
+            // Unknown or already revoked refresh token: nothing to cut off
+        }
         refreshTokenService.revoke(refreshToken);
+        if (dealerId != null) {
+            tokenRevocationService.revokeAll(dealerId);
+        }
     }
 
     private LoginResponse issueTokens(Dealer dealer) {
+        return issueTokens(dealer.getId(), dealer.getContactDetails().phoneNumber(), dealer.getBusinessName());
+    }
+
+    private LoginResponse issueTokens(UUID dealerId, String phoneNumber, String businessName) {
 
         String accessToken = jwtUtil.generateToken(
-                dealer.getContactDetails().phoneNumber(),
-                dealer.getId().toString(),
+                phoneNumber,
+                dealerId.toString(),
                 "dealer");
 
-        String refreshToken = refreshTokenService.create(dealer.getId());
+        String refreshToken = refreshTokenService.create(dealerId);
 
         return new LoginResponse(
                 accessToken,
                 refreshToken,
-                toUserInfo(dealer));
+                toUserInfo(dealerId, businessName));
     }
 
     private LoginResponse.UserInfo toUserInfo(Dealer dealer) {
+        return toUserInfo(dealer.getId(), dealer.getBusinessName());
+    }
+
+    private LoginResponse.UserInfo toUserInfo(UUID dealerId, String businessName) {
         return new LoginResponse.UserInfo(
-                dealer.getId().toString(),
-                dealer.getBusinessName(),
+                dealerId.toString(),
+                businessName,
                 "dealer",
                 null);
     }
@@ -1,11 +1,15 @@
 package com.tyreplus.dealer.application.service;
 
+import com.tyreplus.dealer.application.dto.DailyPurchasesResponse;
 import com.tyreplus.dealer.application.dto.DashboardResponse;
 import com.tyreplus.dealer.domain.entity.Lead;
-import com.tyreplus.dealer.domain.entity.LeadStatus;
 import com.tyreplus.dealer.domain.entity.Wallet;
+import com.tyreplus.dealer.domain.repository.DailyPurchaseRepository;
+import com.tyreplus.dealer.domain.repository.DealerStatsRepository;
 import com.tyreplus.dealer.domain.repository.LeadRepository;
 import com.tyreplus.dealer.domain.repository.WalletRepository;
+import com.tyreplus.dealer.domain.valueobject.DailyPurchases;
+import com.tyreplus.dealer.domain.valueobject.DealerStats;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +17,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,10 +30,17 @@ public class DashboardService {
 
     private final WalletRepository walletRepository;
     private final LeadRepository leadRepository;
+    private final DealerStatsRepository dealerStatsRepository;
+    private final DailyPurchaseRepository dailyPurchaseRepository;
 
-    public DashboardService(WalletRepository walletRepository, LeadRepository leadRepository) {
+    private static final int MAX_CHART_DAYS = 366;
+
+    public DashboardService(WalletRepository walletRepository, LeadRepository leadRepository,
+            DealerStatsRepository dealerStatsRepository, DailyPurchaseRepository dailyPurchaseRepository) {
         this.walletRepository = walletRepository;
         this.leadRepository = leadRepository;
+        this.dealerStatsRepository = dealerStatsRepository;
+        this.dailyPurchaseRepository = dailyPurchaseRepository;
     }
 
     @Transactional(readOnly = true)
@@ -37,20 +50,12 @@ public class DashboardService {
                 .map(Wallet::getTotalCredits)
                 .orElse(0);
 
-        // 2. Fetch Stats Today (Database count is O(1) or O(log n) vs O(n) in Java)
-        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-        int leadsToday = (int) leadRepository.countByPurchasedByDealerIdAndCreatedAtAfter(dealerId, startOfToday);
-
-        // 3. Calculate Conversion Rate
-        // Definition: (Converted Leads / Total Leads Purchased by this Dealer)
-        long totalPurchased = leadRepository.countByPurchasedByDealerId(dealerId);
-        long convertedCount = leadRepository.countByPurchasedByDealerIdAndStatus(dealerId, LeadStatus.CONVERTED);
-
-        int conversionRate = totalPurchased > 0
-                ? (int) ((convertedCount * 100) / totalPurchased)
-                : 0;
+        // 2-3. Today's purchases and conversion rate from the maintained counters (one PK read, cached)
+        DealerStats stats = dealerStatsRepository.findByDealerId(dealerId);
+        int leadsToday = stats.purchasesOn(stats.today());
+        int conversionRate = stats.conversionRate();
 
-        // 4. Get Recent Leads (Limit to 10 at the DB level)
+        // 4. Get Recent Leads (Limit to 10 at the DB level, on idx_leads_purchased_by)
         List<Lead> recentLeadsRaw = leadRepository.findRecentPurchases(dealerId, 10);
 
         List<DashboardResponse.RecentLead> recentLeads = recentLeadsRaw.stream()
@@ -70,6 +75,28 @@ public class DashboardService {
         );
     }
 
+    /**
+     * Purchases per day for the last {@code days} days including today, on the dealer's
+     * calendar. Reads one rollup row per day with purchases; missing days are filled with zero.
+     */
+    @Transactional(readOnly = true)
+    public DailyPurchasesResponse getDailyPurchases(UUID dealerId, int days) {
+        int span = Math.max(1, Math.min(days, MAX_CHART_DAYS));
+        DealerStats stats = dealerStatsRepository.findByDealerId(dealerId);
+        LocalDate to = stats.today();
+        LocalDate from = to.minusDays(span - 1L);
+
+        Map<LocalDate, DailyPurchases> byDay = dailyPurchaseRepository.findRange(dealerId, from, to).stream()
+                .collect(Collectors.toMap(DailyPurchases::day, Function.identity()));
+
+        List<DailyPurchasesResponse.Day> series = from.datesUntil(to.plusDays(1))
+                .map(day -> byDay.getOrDefault(day, DailyPurchases.none(day)))
+                .map(d -> new DailyPurchasesResponse.Day(d.day().toString(), d.purchases(), d.creditsSpent()))
+                .toList();
+
+        return new DailyPurchasesResponse(stats.zone().getId(), series);
+    }
+
     private String formatVehicleInfo(Lead lead) {
         String model = lead.getVehicleModel() != null ? lead.getVehicleModel() : "Unknown Vehicle";
         String year = lead.getVehicleYear() != null ? " " + lead.getVehicleYear() : "";
@@ -45,6 +45,11 @@ public class DealerProfileService {
         dealer.setOwnerName(request.ownerName());
 
         // 3. Update Contact Details (Keep mobile immutable for security/identity)
+        String currentEmail = dealer.getContactDetails().email();
+        if (request.email() != null && !request.email().equalsIgnoreCase(currentEmail)
+                && dealerRepository.existsByEmail(request.email())) {
+            throw new IllegalArgumentException("Email already registered");
+        }
         ContactDetails contactDetails = new ContactDetails(
                 request.email(),
                 dealer.getContactDetails().phoneNumber(), // Do not allow mobile change here
@@ -70,7 +75,12 @@ public class DealerProfileService {
         );
         dealer.updateBusinessHours(businessHours);
 
-        // 6. Save and map the result directly (avoids an extra SELECT query)
+        // 6. Time zone (defines the dealer's "today" for dashboard stats)
+        if (request.timeZone() != null && !request.timeZone().isBlank()) {
+            dealer.updateTimeZone(request.timeZone().trim());
+        }
+
+        // 7. Save and map the result directly (avoids an extra SELECT query)
         Dealer saved = dealerRepository.save(dealer);
         return mapToResponse(saved);
     }
@@ -83,7 +93,8 @@ public class DealerProfileService {
                 dealer.getContactDetails() != null ? dealer.getContactDetails().phoneNumber() : "",
                 dealer.getContactDetails() != null ? dealer.getContactDetails().email() : "",
                 dealer.getAddress() != null ? dealer.getAddress().getFullAddress() : "",
-                null // Avatar Placeholder
+                null, // Avatar Placeholder
+                dealer.getTimeZone()
         );
     }
 
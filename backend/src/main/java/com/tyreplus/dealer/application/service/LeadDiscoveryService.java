@@ -1,6 +1,8 @@
 package com.tyreplus.dealer.application.service;
 
 import com.tyreplus.dealer.application.dto.LeadDetailsResponse;
+import com.tyreplus.dealer.application.dto.KeysetCursor;
+import com.tyreplus.dealer.application.dto.LeadFeedResponse;
 import com.tyreplus.dealer.domain.entity.Lead;
 import com.tyreplus.dealer.domain.entity.LeadStatus;
 import com.tyreplus.dealer.domain.repository.LeadRepository;
@@ -13,24 +15,20 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class LeadDiscoveryService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     private final LeadRepository leadRepository;
 
     public Page<LeadDetailsResponse> getLeads(UUID dealerId, String filter, String sort, int page, int size) {
         // 1. Convert String filter to LeadStatus enum (null if "All")
-        LeadStatus status = null;
-        if (!"All".equalsIgnoreCase(filter)) {
-            try {
-                status = LeadStatus.valueOf(filter.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                status = null; // Fallback to all if invalid status sent
-            }
-        }
+        LeadStatus status = parseFilter(filter);
 
         // 2. Setup Pagination (Sort is handled inside the @Query using the String param)
         Pageable pageable = PageRequest.of(page, size);
@@ -40,12 +38,43 @@ public class LeadDiscoveryService {
                 .map(this::mapToResponse);
     }
 
+    /**
+     * Cursor-based feed. Seeks past the given cursor instead of using OFFSET,
+     * so every page costs the same no matter how deep the dealer scrolls.
+     * A blank cursor returns the first page.
+     */
+    @Transactional(readOnly = true)
+    public LeadFeedResponse getLeadFeed(UUID dealerId, String filter, String sort, String after, int size) {
+        LeadStatus status = parseFilter(filter);
+        boolean ascending = "date_asc".equalsIgnoreCase(sort);
+        KeysetCursor cursor = (after == null || after.isBlank()) ? null : KeysetCursor.decode(after);
+        int limit = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<Lead> leads = leadRepository.findFeedPage(status, dealerId, ascending,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                limit + 1);
+
+        String nextCursor = null;
+        if (leads.size() > limit) {
+            leads = leads.subList(0, limit);
+            Lead last = leads.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new LeadFeedResponse(leads.stream().map(this::mapToResponse).toList(), nextCursor);
+    }
+
+    /**
+     * Inserts the skip row directly instead of saving a (possibly cached) copy of the lead,
+     * which could write stale status and purchaser columns back over a concurrent purchase.
+     */
     @Transactional
     public void skipLead(UUID leadId, UUID dealerId) {
-        Lead lead = leadRepository.findById(leadId)
-                .orElseThrow(() -> new IllegalArgumentException("Lead not found"));
-        lead.addSkip(dealerId);
-        leadRepository.save(lead);
+        if (!leadRepository.addSkip(leadId, dealerId)) {
+            throw new IllegalArgumentException("Lead not found");
+        }
     }
 
     public LeadDetailsResponse getLeadById(UUID leadId) {
@@ -54,6 +83,17 @@ public class LeadDiscoveryService {
         return mapToResponse(lead);
     }
 
+    private LeadStatus parseFilter(String filter) {
+        if ("All".equalsIgnoreCase(filter)) {
+            return null;
+        }
+        try {
+            return LeadStatus.valueOf(filter.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null; // Fallback to all if invalid status sent
+        }
+    }
+
     private LeadDetailsResponse mapToResponse(Lead lead) {
         return new LeadDetailsResponse(
                 lead.getId(), lead.getCustomerName(), lead.getCustomerPhone(),
@@ -0,0 +1,80 @@
+package com.tyreplus.dealer.application.service;
+
+import com.tyreplus.dealer.domain.repository.LeadExpiryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled sweep that expires NEW leads older than tyreplus.leads.expiry.max-age.
+ *
+ * Each chunk is its own short transaction, so row locks are held for one chunk at most.
+ * A run stops when a chunk comes back short or after max-batches, whichever comes first;
+ * anything left over is picked up by the next run.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tyreplus.leads.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class LeadExpiryService {
+
+    private final LeadExpiryRepository leadExpiryRepository;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter expiredLeads;
+    private final DistributionSummary expiredPerRun;
+    private final Timer runTimer;
+
+    public LeadExpiryService(LeadExpiryRepository leadExpiryRepository, MeterRegistry meterRegistry,
+            @Value("${tyreplus.leads.expiry.max-age:P7D}") Duration maxAge,
+            @Value("${tyreplus.leads.expiry.batch-size:500}") int batchSize,
+            @Value("${tyreplus.leads.expiry.max-batches:200}") int maxBatches) {
+        this.leadExpiryRepository = leadExpiryRepository;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expiredLeads = Counter.builder("leads.expired")
+                .register(meterRegistry);
+        this.expiredPerRun = DistributionSummary.builder("leads.expiry.run.rows")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("leads.expiry.run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tyreplus.leads.expiry.interval:PT5M}")
+    public void sweep() {
+        runTimer.record(this::expireStaleLeads);
+    }
+
+    /**
+     * Not transactional on purpose: every chunk commits on its own.
+     *
+     * @return the number of leads expired in this run
+     */
+    public long expireStaleLeads() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int expired = leadExpiryRepository.expireCreatedBefore(cutoff, batchSize).size();
+            total += expired;
+            expiredLeads.increment(expired);
+            if (expired < batchSize) {
+                break;
+            }
+        }
+        expiredPerRun.record(total);
+        if (total > 0) {
+            log.info("Expired {} leads created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,164 @@
+package com.tyreplus.dealer.application.service;
+
+import com.tyreplus.dealer.application.dto.LeadImportProgress;
+import com.tyreplus.dealer.application.dto.LeadImportProgress.RowError;
+import com.tyreplus.dealer.application.dto.LeadImportRow;
+import com.tyreplus.dealer.application.port.LeadImportSource;
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.repository.LeadBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Application service for importing partner lead feeds.
+ *
+ * Rows are validated as they stream in and written in batches, each batch in its own
+ * transaction, so memory stays flat however large the feed and a failed batch does not
+ * undo the ones before it. A progress report is emitted after every batch.
+ */
+@Slf4j
+@Service
+public class LeadIngestionService {
+
+    private static final int MAX_ERRORS_PER_BATCH = 50;
+
+    private final LeadBulkRepository leadBulkRepository;
+    private final int batchSize;
+    private final Counter insertedRows;
+    private final Counter rejectedRows;
+
+    public LeadIngestionService(LeadBulkRepository leadBulkRepository, MeterRegistry meterRegistry,
+            @Value("${tyreplus.ingest.batch-size:1000}") int batchSize) {
+        this.leadBulkRepository = leadBulkRepository;
+        this.batchSize = batchSize;
+        this.insertedRows = rows(meterRegistry, "inserted");
+        this.rejectedRows = rows(meterRegistry, "rejected");
+    }
+
+    /**
+     * Not transactional on purpose: every batch commits on its own.
+     */
+    public LeadImportProgress ingest(LeadImportSource source, Consumer<LeadImportProgress> progress)
+            throws IOException {
+        List<Lead> pending = new ArrayList<>(batchSize);
+        List<Long> pendingLines = new ArrayList<>(batchSize);
+        List<RowError> errors = new ArrayList<>();
+        long rowsRead = 0;
+        long inserted = 0;
+        long rejected = 0;
+        int batch = 0;
+
+        LeadImportSource.Record record;
+        while ((record = source.next()) != null) {
+            rowsRead++;
+            String error = record.error() != null ? record.error() : validate(record.row());
+            if (error != null) {
+                rejected++;
+                rejectedRows.increment();
+                if (errors.size() < MAX_ERRORS_PER_BATCH) {
+                    errors.add(new RowError(record.line(), error));
+                }
+            } else {
+                pending.add(toLead(record.row()));
+                pendingLines.add(record.line());
+            }
+
+            if (pending.size() == batchSize) {
+                batch++;
+                long written = flush(pending, pendingLines, errors);
+                inserted += written;
+                rejected += pendingLines.size() - written;
+                pending.clear();
+                pendingLines.clear();
+                progress.accept(new LeadImportProgress(batch, rowsRead, inserted, rejected, List.copyOf(errors), false));
+                errors.clear();
+            }
+        }
+
+        if (!pending.isEmpty() || !errors.isEmpty()) {
+            batch++;
+            long written = flush(pending, pendingLines, errors);
+            inserted += written;
+            rejected += pendingLines.size() - written;
+        }
+        LeadImportProgress summary = new LeadImportProgress(batch, rowsRead, inserted, rejected, List.copyOf(errors), true);
+        log.info("Lead import finished: {} rows read, {} inserted, {} rejected", rowsRead, inserted, rejected);
+        progress.accept(summary);
+        return summary;
+    }
+
+    /**
+     * Writes one batch; a database failure rejects the whole batch and the import continues.
+     */
+    private long flush(List<Lead> leads, List<Long> lines, List<RowError> errors) {
+        if (leads.isEmpty()) {
+            return 0;
+        }
+        try {
+            int written = leadBulkRepository.insertAll(leads);
+            insertedRows.increment(written);
+            return written;
+        } catch (DataAccessException e) {
+            log.warn("Lead import batch of {} rows failed: {}", leads.size(), e.getMessage());
+            rejectedRows.increment(leads.size());
+            errors.add(new RowError(lines.get(0), "Batch of " + leads.size() + " rows starting here failed: "
+                    + e.getMostSpecificCause().getMessage()));
+            return 0;
+        }
+    }
+
+    private String validate(LeadImportRow row) {
+        if (isBlank(row.customerName())) {
+            return "customer_name is required";
+        }
+        if (isBlank(row.customerPhone())) {
+            return "customer_phone is required";
+        }
+        if (isBlank(row.vehicleModel())) {
+            return "vehicle_model is required";
+        }
+        if (row.leadCost() == null || row.leadCost() <= 0) {
+            return "lead_cost must be a positive number";
+        }
+        if (row.customerEmail() != null && !row.customerEmail().isBlank() && !row.customerEmail().contains("@")) {
+            return "customer_email is not valid";
+        }
+        return null;
+    }
+
+    private Lead toLead(LeadImportRow row) {
+        return Lead.builder()
+                .id(UUID.randomUUID())
+                .customerName(row.customerName().trim())
+                .customerPhone(row.customerPhone().trim())
+                .customerEmail(isBlank(row.customerEmail()) ? null : row.customerEmail().trim())
+                .vehicleModel(row.vehicleModel().trim())
+                .vehicleYear(isBlank(row.vehicleYear()) ? null : row.vehicleYear().trim())
+                .status(LeadStatus.NEW)
+                .leadCost(row.leadCost())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Counter rows(MeterRegistry registry, String result) {
+        return Counter.builder("leads.ingest.rows")
+                .tag("result", result)
+                .register(registry);
+    }
+}
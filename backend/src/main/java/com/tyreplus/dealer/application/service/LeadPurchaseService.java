@@ -3,12 +3,8 @@ package com.tyreplus.dealer.application.service;
 import com.tyreplus.dealer.application.dto.LeadDetailsResponse;
 import com.tyreplus.dealer.application.exception.InsufficientFundsException;
 import com.tyreplus.dealer.domain.entity.Lead;
-import com.tyreplus.dealer.domain.entity.Transaction;
-import com.tyreplus.dealer.domain.entity.TransactionType;
-import com.tyreplus.dealer.domain.entity.Wallet;
-import com.tyreplus.dealer.domain.repository.LeadRepository;
-import com.tyreplus.dealer.domain.repository.TransactionRepository;
-import com.tyreplus.dealer.domain.repository.WalletRepository;
+import com.tyreplus.dealer.domain.repository.LeadPurchaseRepository;
+import com.tyreplus.dealer.domain.repository.LeadPurchaseRepository.PurchaseResult;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,17 +17,10 @@ import java.util.UUID;
 @Service
 public class LeadPurchaseService {
 
-    private final LeadRepository leadRepository;
-    private final WalletRepository walletRepository;
-    private final TransactionRepository transactionRepository;
+    private final LeadPurchaseRepository leadPurchaseRepository;
 
-    public LeadPurchaseService(
-            LeadRepository leadRepository,
-            WalletRepository walletRepository,
-            TransactionRepository transactionRepository) {
-        this.leadRepository = leadRepository;
-        this.walletRepository = walletRepository;
-        this.transactionRepository = transactionRepository;
+    public LeadPurchaseService(LeadPurchaseRepository leadPurchaseRepository) {
+        this.leadPurchaseRepository = leadPurchaseRepository;
     }
 
     /**
@@ -43,55 +32,23 @@ public class LeadPurchaseService {
      * @return LeadDetailsResponse containing the purchased lead details
      * @throws InsufficientFundsException if the dealer's wallet has insufficient
      *                                    balance
-     * @throws IllegalArgumentException   if the lead is not available for purchase
+     * @throws IllegalArgumentException   if the lead or wallet does not exist
+     * @throws IllegalStateException      if the lead is not available for purchase
      */
     @Transactional
     public LeadDetailsResponse buyLead(UUID leadId, UUID dealerId) {
-        // 1. Lock Lead (Prevents race conditions)
-        Lead lead = leadRepository.findByIdWithLock(leadId)
-                .orElseThrow(() -> new IllegalArgumentException("Lead not found"));
+        // Claim, debit and transaction record happen in one statement; a competing
+        // buyer fails fast instead of waiting on the lead's row lock.
+        PurchaseResult result = leadPurchaseRepository.purchase(leadId, dealerId);
 
-        // 2. Idempotency Check
-        if (dealerId.equals(lead.getPurchasedByDealerId())) {
-            return mapToResponse(lead);
-        }
-
-        // 3. Availability Check
-        if (!lead.isAvailable()) {
-            throw new IllegalStateException("Lead already purchased by another dealer.");
-        }
-
-        // 4. Lock Wallet
-        Wallet wallet = walletRepository.findByDealerIdWithLock(dealerId)
-                .orElseThrow(() -> new IllegalArgumentException("Wallet not found"));
-
-        // 5. Execute Logic (Uses the new Bonus-first deduction)
-        Wallet.DeductionBreakdown breakdown = wallet.deduct(lead.getLeadCost());
-        lead.markAsBought(dealerId);
-
-        // 6. Persistence
-        walletRepository.save(wallet);
-        leadRepository.save(lead);
-
-        // 7. Detailed Transaction Recording
-        recordDetailedTransaction(wallet, dealerId, lead, breakdown);
-
-        return mapToResponse(lead);
-    }
-
-    private void recordDetailedTransaction(Wallet wallet, UUID dealerId, Lead lead,
-            Wallet.DeductionBreakdown breakdown) {
-        // Create transaction record
-        Transaction transaction = new Transaction(
-                wallet.getId(),
-                dealerId,
-                TransactionType.DEBIT,
-                lead.getLeadCost(),
-                breakdown.purchased(),
-                breakdown.bonus(),
-                "Lead Purchase: " + lead.getCustomerName() + " - " + lead.getVehicleModel(),
-                null); // paymentId is null for internal debits
-        transactionRepository.save(transaction);
+        // Throwing rolls back the claim for the wallet failures
+        return switch (result.outcome()) {
+            case PURCHASED, ALREADY_OWNED -> mapToResponse(result.lead());
+            case LEAD_NOT_FOUND -> throw new IllegalArgumentException("Lead not found");
+            case LEAD_UNAVAILABLE -> throw new IllegalStateException("Lead already purchased by another dealer.");
+            case WALLET_NOT_FOUND -> throw new IllegalArgumentException("Wallet not found");
+            case INSUFFICIENT_FUNDS -> throw new InsufficientFundsException("Insufficient funds");
+        };
     }
 
     private LeadDetailsResponse mapToResponse(Lead lead) {
@@ -2,6 +2,7 @@ package com.tyreplus.dealer.application.service;
 
 import com.tyreplus.dealer.domain.entity.Lead;
 import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.repository.DealerStatsRepository;
 import com.tyreplus.dealer.domain.repository.LeadRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,10 +14,12 @@ import java.util.UUID;
 public class LeadStatusUpdateService {
 
     private final LeadRepository leadRepository;
+    private final DealerStatsRepository dealerStatsRepository;
 
     @Transactional
     public void updateStatus(UUID leadId, UUID dealerId, LeadStatus newStatus) {
-        Lead lead = leadRepository.findById(leadId)
+        // Row lock serializes concurrent updates, so a conversion is counted exactly once
+        Lead lead = leadRepository.findByIdWithLock(leadId)
                 .orElseThrow(() -> new IllegalArgumentException("Lead not found"));
 
         // Security: Prevent Dealer A from updating Dealer B's leads
@@ -29,7 +32,13 @@ public class LeadStatusUpdateService {
             throw new IllegalStateException("Converted leads are finalized.");
         }
 
+        boolean converting = lead.getStatus() != LeadStatus.CONVERTED && newStatus == LeadStatus.CONVERTED;
+
         lead.setStatus(newStatus);
         leadRepository.save(lead);
+
+        if (converting) {
+            dealerStatsRepository.recordConversion(dealerId);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.tyreplus.dealer.application.service;
+
+import com.tyreplus.dealer.domain.repository.OtpRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled purge of expired OTPs.
+ *
+ * OTPs are kept for tyreplus.otp.retention after expiry, so a late attempt still gets
+ * "OTP expired" rather than "No OTP found". Deletes run in batches, each its own transaction,
+ * so the otps table is never locked for long.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tyreplus.otp.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class OtpPurgeService {
+
+    private final OtpRepository otpRepository;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter purgedOtps;
+
+    public OtpPurgeService(OtpRepository otpRepository, MeterRegistry meterRegistry,
+            @Value("${tyreplus.otp.retention:PT1H}") Duration retention,
+            @Value("${tyreplus.otp.purge.batch-size:1000}") int batchSize,
+            @Value("${tyreplus.otp.purge.max-batches:100}") int maxBatches) {
+        this.otpRepository = otpRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgedOtps = Counter.builder("otp.purged")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Not transactional on purpose: every batch commits on its own.
+     */
+    @Scheduled(fixedDelayString = "${tyreplus.otp.purge.interval:PT15M}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = otpRepository.deleteExpiredBefore(cutoff, batchSize);
+            total += deleted;
+            purgedOtps.increment(deleted);
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} OTPs expired before {}", total, cutoff);
+        }
+    }
+}
@@ -3,10 +3,11 @@ package com.tyreplus.dealer.application.service;
 import com.tyreplus.dealer.application.exception.InvalidOtpException;
 import com.tyreplus.dealer.domain.entity.Otp;
 import com.tyreplus.dealer.domain.repository.OtpRepository;
-import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 
@@ -16,6 +17,8 @@ import java.time.LocalDateTime;
 @Service
 public class OtpService {
 
+    private static final int MAX_ATTEMPTS = 3;
+
     private final OtpRepository otpRepository;
     private final SmsService smsService;
     private final SecureRandom random = new SecureRandom();
@@ -38,19 +41,17 @@ public class OtpService {
         return code;
     }
 
-    @Transactional
+    /**
+     * Failed attempts stay counted even though InvalidOtpException rolls back the caller's
+     * transaction; the JDBC store records them in a transaction of their own.
+     */
     public void validateOtp(String mobile, String code) {
-        // 1. Fetch latest valid OTP
-        List<Otp> otps = otpRepository.findByMobile(mobile);
-        if (otps.isEmpty()) {
-            throw new InvalidOtpException("No OTP found for this mobile number.");
-        }
-        Otp latestOtp = otps.get(0); // Assuming ordered by created_at desc
+        // 1. Fetch latest OTP (single row off idx_otps_mobile_created)
+        Otp latestOtp = otpRepository.findLatestByMobile(mobile)
+                .orElseThrow(() -> new InvalidOtpException("No OTP found for this mobile number."));
 
-        // 2. Check if blocked/max attempts reached on this OTP?
-        // Actually blocking logic might be complex if not tied to specific OTP.
-        // For now, let's limit attempts on the specific OTP entity.
-        if (latestOtp.getAttempts() >= 3) {
+        // 2. Cheap pre-checks on the snapshot; the attempt limit is enforced atomically below
+        if (latestOtp.getAttempts() >= MAX_ATTEMPTS) {
             throw new InvalidOtpException("Too many failed attempts. Request a new OTP.");
         }
 
@@ -62,16 +63,23 @@ public class OtpService {
             throw new InvalidOtpException("OTP already used.");
         }
 
-        // 3. Compare
-        if (!latestOtp.getCode().equals(code)) {
-            latestOtp.setAttempts(latestOtp.getAttempts() + 1);
-            otpRepository.save(latestOtp);
-            int remaining = Math.max(0, 3 - latestOtp.getAttempts());
-            throw new InvalidOtpException("Invalid OTP. Attempts remaining: " + remaining);
+        // 3. Count the attempt before comparing, so parallel guesses cannot all pass the limit
+        int attempts = otpRepository.recordAttempt(latestOtp);
+        if (attempts == 0) {
+            throw new InvalidOtpException("No OTP found for this mobile number.");
+        }
+        if (attempts > MAX_ATTEMPTS) {
+            throw new InvalidOtpException("Too many failed attempts. Request a new OTP.");
+        }
+
+        if (!MessageDigest.isEqual(latestOtp.getCode().getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8))) {
+            throw new InvalidOtpException("Invalid OTP. Attempts remaining: " + (MAX_ATTEMPTS - attempts));
         }
 
-        // 4. Success: Mark as used
-        latestOtp.markAsUsed();
-        otpRepository.save(latestOtp);
+        // 4. Success: Mark as used (only one of two concurrent correct submissions wins)
+        if (!otpRepository.markUsed(latestOtp)) {
+            throw new InvalidOtpException("OTP already used.");
+        }
     }
 }
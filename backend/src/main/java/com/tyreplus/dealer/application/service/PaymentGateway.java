@@ -0,0 +1,28 @@
+package com.tyreplus.dealer.application.service;
+
+/**
+ * Interface for the payment gateway used to recharge wallets.
+ * Implementations: Razorpay, and a local stub for development and load tests.
+ */
+public interface PaymentGateway {
+
+    /**
+     * @return the public key the client app opens the checkout with
+     */
+    String getKeyId();
+
+    /**
+     * Creates a gateway order. Makes a network call, so never call it inside a DB transaction.
+     *
+     * @param amountInPaise the amount in paise (500 INR = 50000)
+     * @return the gateway order id
+     * @throws com.tyreplus.dealer.application.exception.PaymentGatewayException if the gateway
+     *         is unreachable, times out, or is short-circuited
+     */
+    String createOrder(int amountInPaise);
+
+    /**
+     * Verifies the checkout signature locally; no network call.
+     */
+    boolean verifySignature(String orderId, String paymentId, String signature);
+}
@@ -1,10 +1,17 @@
 package com.tyreplus.dealer.application.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Interface for SMS service.
  * Implementations can use Twilio, AWS SNS, or other SMS providers.
  */
 public interface SmsService {
+
+    record Message(String mobile, String text) {
+    }
+
     /**
      * Sends an SMS message to the specified mobile number.
      *
@@ -12,5 +19,23 @@ public interface SmsService {
      * @param message the message content
      */
     void sendSms(String mobile, String message);
-}
 
+    /**
+     * Sends several messages in one gateway call. Providers with a bulk API override this;
+     * the default sends them one by one. Throws if the batch could not be handed over at all.
+     *
+     * @return the messages that were not delivered, empty when all went out; callers retry
+     * only these, so a delivered message is never sent twice
+     */
+    default List<Message> sendBatch(List<Message> messages) {
+        List<Message> undelivered = new ArrayList<>();
+        for (Message message : messages) {
+            try {
+                sendSms(message.mobile(), message.text());
+            } catch (RuntimeException e) {
+                undelivered.add(message);
+            }
+        }
+        return undelivered;
+    }
+}
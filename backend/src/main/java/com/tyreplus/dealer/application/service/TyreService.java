@@ -2,6 +2,9 @@ package com.tyreplus.dealer.application.service;
 
 import com.tyreplus.dealer.domain.entity.Tyre;
 import com.tyreplus.dealer.domain.repository.TyreRepository;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
+import com.tyreplus.dealer.domain.valueobject.TyreSize;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,6 +14,8 @@ import java.util.UUID;
 @Service
 public class TyreService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TyreRepository tyreRepository;
 
     public TyreService(TyreRepository tyreRepository) {
@@ -18,7 +23,41 @@ public class TyreService {
     }
 
     public List<Tyre> searchTyres(String brand, String size, String pattern) {
-        return tyreRepository.search(brand, size, pattern);
+        return tyreRepository.findByExactFilters(brand, size, pattern);
+    }
+
+    public TyreSearchResult searchCatalog(TyreSearchCriteria criteria) {
+        if (criteria.page() < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (criteria.pageSize() < 1 || criteria.pageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (criteria.minPrice() != null && criteria.maxPrice() != null && criteria.minPrice() > criteria.maxPrice()) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        return tyreRepository.search(criteria);
+    }
+
+    public List<Tyre> findFittingTyres(String size) {
+        return tyreRepository.findFitting(TyreSize.parse(size));
+    }
+
+    public List<Tyre> findTyresBySizeRange(Integer rimDiameter, Integer minWidth, Integer maxWidth,
+            int page, int pageSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (rimDiameter == null && minWidth == null && maxWidth == null) {
+            throw new IllegalArgumentException("rimDiameter, minWidth or maxWidth is required");
+        }
+        if (minWidth != null && maxWidth != null && minWidth > maxWidth) {
+            throw new IllegalArgumentException("minWidth must not be greater than maxWidth");
+        }
+        return tyreRepository.findBySizeRange(rimDiameter, minWidth, maxWidth, page, pageSize);
     }
 
     public Optional<Tyre> getTyreDetails(UUID id) {
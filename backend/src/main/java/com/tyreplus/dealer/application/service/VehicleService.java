@@ -1,8 +1,11 @@
 package com.tyreplus.dealer.application.service;
 
+import com.tyreplus.dealer.domain.entity.Tyre;
 import com.tyreplus.dealer.domain.entity.UserVehicle;
+import com.tyreplus.dealer.domain.repository.TyreRepository;
 import com.tyreplus.dealer.domain.repository.UserVehicleRepository;
 import com.tyreplus.dealer.domain.repository.VehicleRepository;
+import com.tyreplus.dealer.domain.valueobject.TyreSize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +17,13 @@ public class VehicleService {
 
     private final VehicleRepository vehicleRepository;
     private final UserVehicleRepository userVehicleRepository;
+    private final TyreRepository tyreRepository;
 
-    public VehicleService(VehicleRepository vehicleRepository, UserVehicleRepository userVehicleRepository) {
+    public VehicleService(VehicleRepository vehicleRepository, UserVehicleRepository userVehicleRepository,
+            TyreRepository tyreRepository) {
         this.vehicleRepository = vehicleRepository;
         this.userVehicleRepository = userVehicleRepository;
+        this.tyreRepository = tyreRepository;
     }
 
     // Master Data
@@ -37,11 +43,24 @@ public class VehicleService {
         return vehicleRepository.findTyreSizes(make, model, variant);
     }
 
+    public String getCatalogVersion() {
+        return vehicleRepository.catalogVersion();
+    }
+
     // Garage
     public List<UserVehicle> getUserVehicles(UUID dealerId) {
         return userVehicleRepository.findByDealerId(dealerId);
     }
 
+    public List<Tyre> getFittingTyres(UUID dealerId, UUID vehicleId) {
+        UserVehicle vehicle = userVehicleRepository.findById(vehicleId)
+                .filter(v -> v.getDealerId().equals(dealerId))
+                .orElseThrow(() -> new IllegalArgumentException("Vehicle not found"));
+        TyreSize size = TyreSize.tryParse(vehicle.getTyreSize())
+                .orElseThrow(() -> new IllegalArgumentException("Vehicle has no recognisable tyre size"));
+        return tyreRepository.findFitting(size);
+    }
+
     @Transactional
     public UserVehicle addUserVehicle(UUID dealerId, UserVehicle vehicle) {
         vehicle.setDealerId(dealerId);
@@ -8,11 +8,11 @@ import com.tyreplus.dealer.domain.entity.Wallet;
 import com.tyreplus.dealer.domain.repository.RechargePackageRepository;
 import com.tyreplus.dealer.domain.repository.TransactionRepository;
 import com.tyreplus.dealer.domain.repository.WalletRepository;
-import com.tyreplus.dealer.infrastructure.payment.RazorpayAdapter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -23,47 +23,62 @@ public class WalletService {
 
         private final WalletRepository walletRepository;
         private final TransactionRepository transactionRepository;
-        private final RazorpayAdapter razorpayAdapter;
+        private final PaymentGateway paymentGateway;
         private final RechargePackageRepository packageRepository;
 
         public WalletService(WalletRepository walletRepository,
                         TransactionRepository transactionRepository,
-                        RazorpayAdapter razorpayAdapter,
+                        PaymentGateway paymentGateway,
                         RechargePackageRepository packageRepository) {
                 this.walletRepository = walletRepository;
                 this.transactionRepository = transactionRepository;
-                this.razorpayAdapter = razorpayAdapter;
+                this.paymentGateway = paymentGateway;
                 this.packageRepository = packageRepository;
         }
 
+        private static final int MAX_TRANSACTION_PAGE_SIZE = 100;
+
         /**
-         * Updated to return split balances and total credits.
+         * Balances only; the history is paged through getTransactions.
          */
         public WalletResponse getWalletDetails(UUID dealerId) {
                 Wallet wallet = walletRepository.findByDealerId(dealerId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Wallet not found for dealer: " + dealerId));
 
-                List<Transaction> transactions = transactionRepository.findByDealerId(dealerId);
-
-                List<WalletResponse.TransactionResponse> transactionResponses = transactions.stream()
-                                .map(tx -> new WalletResponse.TransactionResponse(
-                                                tx.getId().toString(),
-                                                tx.getDescription() != null ? tx.getDescription()
-                                                                : (tx.getType() == TransactionType.CREDIT
-                                                                                ? "Added Money"
-                                                                                : "Deducted Money"),
-                                                tx.getTimestamp().format(DateTimeFormatter.ISO_DATE_TIME),
-                                                tx.getCredits(),
-                                                tx.getType().name().toLowerCase()))
-                                .toList();
-
                 // Pass total, purchased, and bonus separately to the DTO
                 return new WalletResponse(
                                 wallet.getTotalCredits(),
                                 wallet.getPurchasedCredits(),
-                                wallet.getBonusCredits(),
-                                transactionResponses);
+                                wallet.getBonusCredits());
+        }
+
+        /**
+         * Keyset-paginated transaction history, newest first.
+         * Each page seeks on (dealer_id, created_at, id), so it costs the same however long
+         * the history is. A blank cursor returns the newest page.
+         */
+        @Transactional(readOnly = true)
+        public TransactionPageResponse getTransactions(UUID dealerId, String after, int size) {
+                KeysetCursor cursor = (after == null || after.isBlank()) ? null : KeysetCursor.decode(after);
+                int limit = Math.max(1, Math.min(size, MAX_TRANSACTION_PAGE_SIZE));
+
+                // Fetch one extra row to know whether another page exists without a COUNT query
+                List<Transaction> transactions = transactionRepository.findPageByDealerId(dealerId,
+                                cursor != null ? cursor.createdAt() : null,
+                                cursor != null ? cursor.id() : null,
+                                limit + 1);
+
+                String nextCursor = null;
+                if (transactions.size() > limit) {
+                        transactions = transactions.subList(0, limit);
+                        Transaction last = transactions.get(limit - 1);
+                        nextCursor = new KeysetCursor(last.getTimestamp(), last.getId()).encode();
+                }
+
+                return new TransactionPageResponse(
+                                transactions.stream().map(this::toTransactionResponse).toList(),
+                                nextCursor);
         }
 
         @Transactional(readOnly = true)
@@ -80,31 +95,30 @@ public class WalletService {
                                 .toList();
         }
 
-        @Transactional
+        /**
+         * Not transactional: nothing is written, and the gateway call must not hold a pooled
+         * connection for its duration.
+         */
         public PaymentOrderResponse initiateRecharge(UUID dealerId, UUID packageId) {
-                try {
-                        RechargePackage pkg = packageRepository.findById(packageId)
-                                        .orElseThrow(() -> new IllegalArgumentException("Package not found"));
-
-                        // Razorpay expects amount in Paise
-                        int amountInPaise = pkg.getPriceInInr() * 100;
-                        String gatewayOrderId = razorpayAdapter.createGatewayOrder(amountInPaise);
-
-                        return new PaymentOrderResponse(
-                                        gatewayOrderId,
-                                        amountInPaise,
-                                        "INR",
-                                        razorpayAdapter.getKeyId(),
-                                        pkg.getName());
-                } catch (Exception e) {
-                        throw new RuntimeException("Failed to initiate payment with gateway", e);
-                }
+                RechargePackage pkg = packageRepository.findById(packageId)
+                                .orElseThrow(() -> new IllegalArgumentException("Package not found"));
+
+                // Razorpay expects amount in Paise
+                int amountInPaise = pkg.getPriceInInr() * 100;
+                String gatewayOrderId = paymentGateway.createOrder(amountInPaise);
+
+                return new PaymentOrderResponse(
+                                gatewayOrderId,
+                                amountInPaise,
+                                "INR",
+                                paymentGateway.getKeyId(),
+                                pkg.getName());
         }
 
         @Transactional
-        public WalletResponse completeRecharge(UUID dealerId, PaymentVerificationRequest request) {
+        public RechargeResponse completeRecharge(UUID dealerId, PaymentVerificationRequest request) {
                 // 1. Digital Signature Verification
-                boolean isVerified = razorpayAdapter.verifySignature(
+                boolean isVerified = paymentGateway.verifySignature(
                                 request.gatewayOrderId(),
                                 request.gatewayPaymentId(),
                                 request.gatewaySignature());
@@ -114,11 +128,15 @@ public class WalletService {
                 }
 
                 // 1.5. Idempotency Check (Prevent Double Spend)
-                if (transactionRepository.existsByPaymentId(request.gatewayPaymentId())) {
-                        // Already processed, return current wallet state
-                        // Ideally strictly we should return the exact transaction response, but for MVP
-                        // returning wallet is safe
-                        return getWalletDetails(dealerId);
+                Optional<Transaction> processed = transactionRepository.findByPaymentId(request.gatewayPaymentId());
+                if (processed.isPresent()) {
+                        // Already processed: replay the original transaction with the current balances
+                        WalletResponse balances = getWalletDetails(dealerId);
+                        return new RechargeResponse(
+                                        balances.totalCredits(),
+                                        balances.purchasedCredits(),
+                                        balances.bonusCredits(),
+                                        toTransactionResponse(processed.get()));
                 }
 
                 // 2. Load Wallet and Package
@@ -142,16 +160,16 @@ public class WalletService {
                                 pkg.getBonusCredits(), // Bonus
                                 "Package Purchase: " + pkg.getName() + " (Incl. Bonus)",
                                 request.gatewayPaymentId()); // Store paymentId
-                transactionRepository.save(transaction);
+                Transaction saved = transactionRepository.save(transaction);
 
-                return getWalletDetails(dealerId);
+                return toRechargeResponse(wallet, saved);
         }
 
         /**
          * Updated testRecharge to also handle the split.
          */
         @Transactional
-        public WalletResponse testRecharge(UUID dealerId, RechargeRequest request) {
+        public RechargeResponse testRecharge(UUID dealerId, RechargeRequest request) {
                 Wallet wallet = walletRepository.findByDealerIdWithLock(dealerId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Wallet not found for dealer: " + dealerId));
@@ -173,8 +191,31 @@ public class WalletService {
                                 pkg.getBonusCredits(), // Bonus
                                 "TEST Package Purchase: " + pkg.getName(),
                                 "TEST_" + UUID.randomUUID()); // Dummy paymentId for test
-                transactionRepository.save(transaction);
+                Transaction saved = transactionRepository.save(transaction);
+
+                return toRechargeResponse(wallet, saved);
+        }
+
+        /**
+         * The wallet is already locked and updated in hand, so no history is re-read.
+         */
+        private RechargeResponse toRechargeResponse(Wallet wallet, Transaction transaction) {
+                return new RechargeResponse(
+                                wallet.getTotalCredits(),
+                                wallet.getPurchasedCredits(),
+                                wallet.getBonusCredits(),
+                                toTransactionResponse(transaction));
+        }
 
-                return getWalletDetails(dealerId);
+        private TransactionResponse toTransactionResponse(Transaction tx) {
+                return new TransactionResponse(
+                                tx.getId().toString(),
+                                tx.getDescription() != null ? tx.getDescription()
+                                                : (tx.getType() == TransactionType.CREDIT
+                                                                ? "Added Money"
+                                                                : "Deducted Money"),
+                                tx.getTimestamp().format(DateTimeFormatter.ISO_DATE_TIME),
+                                tx.getCredits(),
+                                tx.getType().name().toLowerCase());
         }
 }
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.ZoneId;
 import java.util.UUID;
 
 /**
@@ -19,6 +20,8 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 public class Dealer {
+    public static final String DEFAULT_TIME_ZONE = "Asia/Kolkata";
+
     private UUID id;
     private String businessName;
     private String ownerName;
@@ -27,6 +30,20 @@ public class Dealer {
     private ContactDetails contactDetails;
     private Address address;
     private BusinessHours businessHours;
+    @Builder.Default
+    private String timeZone = DEFAULT_TIME_ZONE; // IANA zone; defines the dealer's "today"
+
+    public ZoneId zoneId() {
+        return ZoneId.of(timeZone != null ? timeZone : DEFAULT_TIME_ZONE);
+    }
+
+    public void updateTimeZone(String newTimeZone) {
+        try {
+            this.timeZone = ZoneId.of(newTimeZone).getId();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid time zone: " + newTimeZone);
+        }
+    }
 
     public void verify() {
         this.isVerified = true;
@@ -0,0 +1,20 @@
+package com.tyreplus.dealer.domain.repository;
+
+import com.tyreplus.dealer.domain.valueobject.DailyPurchases;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the per-dealer daily purchase rollup.
+ * Part of the domain layer - no framework dependencies.
+ * Rows are written by LeadPurchaseRepository in the purchase statement itself.
+ */
+public interface DailyPurchaseRepository {
+    /**
+     * Returns the days in [from, to] that have purchases, oldest first. Days without
+     * purchases have no row and are not returned.
+     */
+    List<DailyPurchases> findRange(UUID dealerId, LocalDate from, LocalDate to);
+}
@@ -1,6 +1,8 @@
 package com.tyreplus.dealer.domain.repository;
 
 import com.tyreplus.dealer.domain.entity.Dealer;
+import com.tyreplus.dealer.domain.valueobject.DealerCredentials;
+import com.tyreplus.dealer.domain.valueobject.LoginIdentifier;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +16,18 @@ public interface DealerRepository {
     Optional<Dealer> findById(UUID id);
     Optional<Dealer> findByMobile(String mobile);
     Optional<Dealer> findByPhoneNumberOrEmail(String identifier);
+    /**
+     * Sign-in lookup: one indexed probe on phone number or lower(email), no collections loaded.
+     */
+    Optional<DealerCredentials> findCredentials(LoginIdentifier identifier);
+    /**
+     * @return false if no dealer has this id
+     */
+    boolean updatePasswordHash(UUID dealerId, String passwordHash);
     Optional<Dealer> findByEmail(String email);
     boolean existsById(UUID id);
     boolean existsByMobile(String mobile);
+    // Case-insensitive, as email sign-in is
     boolean existsByEmail(String email);
     void deleteById(UUID id);
 }
@@ -0,0 +1,19 @@
+package com.tyreplus.dealer.domain.repository;
+
+import com.tyreplus.dealer.domain.valueobject.DealerStats;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for the DealerStats aggregate.
+ * Part of the domain layer - no framework dependencies.
+ * Purchases are counted by LeadPurchaseRepository in the purchase statement itself.
+ */
+public interface DealerStatsRepository {
+    /**
+     * Returns the dealer's counters, or all-zero counters if the dealer never purchased.
+     */
+    DealerStats findByDealerId(UUID dealerId);
+
+    void recordConversion(UUID dealerId);
+}
@@ -0,0 +1,18 @@
+package com.tyreplus.dealer.domain.repository;
+
+import com.tyreplus.dealer.domain.entity.Lead;
+
+import java.util.List;
+
+/**
+ * Repository interface for bulk lead inserts, bypassing per-entity persistence.
+ * Part of the domain layer - no framework dependencies.
+ */
+public interface LeadBulkRepository {
+    /**
+     * Inserts all leads in one transaction. Leads must already carry their id and createdAt.
+     *
+     * @return the number of rows inserted
+     */
+    int insertAll(List<Lead> leads);
+}
@@ -0,0 +1,19 @@
+package com.tyreplus.dealer.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for set-based lead expiry.
+ * Part of the domain layer - no framework dependencies.
+ */
+public interface LeadExpiryRepository {
+    /**
+     * Moves up to {@code limit} unpurchased NEW leads created before {@code cutoff} to EXPIRED,
+     * oldest first, in one transaction. Leads locked by an in-flight purchase are skipped.
+     *
+     * @return the ids of the expired leads
+     */
+    List<UUID> expireCreatedBefore(LocalDateTime cutoff, int limit);
+}
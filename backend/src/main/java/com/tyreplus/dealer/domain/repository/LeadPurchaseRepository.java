@@ -0,0 +1,35 @@
+package com.tyreplus.dealer.domain.repository;
+
+import com.tyreplus.dealer.domain.entity.Lead;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for the lead purchase write path.
+ * Claims the lead, debits the wallet and records the debit as one atomic operation.
+ * Part of the domain layer - no framework dependencies.
+ */
+public interface LeadPurchaseRepository {
+
+    enum Outcome {
+        PURCHASED,
+        ALREADY_OWNED,
+        LEAD_NOT_FOUND,
+        LEAD_UNAVAILABLE,
+        WALLET_NOT_FOUND,
+        INSUFFICIENT_FUNDS
+    }
+
+    /**
+     * @param lead the purchased lead for PURCHASED / ALREADY_OWNED, otherwise null
+     */
+    record PurchaseResult(Outcome outcome, Lead lead) {
+    }
+
+    /**
+     * Attempts the purchase without waiting on locks held by a competing buyer.
+     * On WALLET_NOT_FOUND or INSUFFICIENT_FUNDS the lead has already been claimed,
+     * so the caller must roll back the surrounding transaction.
+     */
+    PurchaseResult purchase(UUID leadId, UUID dealerId);
+}
@@ -30,10 +30,15 @@ public interface LeadRepository {
     long countByPurchasedByDealerId(UUID dealerId);
     long countByPurchasedByDealerIdAndStatus(UUID dealerId, LeadStatus status);
     Optional<Lead> findByIdWithLock(UUID id);
+    // Records the skip without touching the lead row; false when the lead does not exist
+    boolean addSkip(UUID leadId, UUID dealerId);
     // Add these methods to support the Seeder
     void saveAll(List<Lead> leads);
     long count();
     void flush();
     Page<Lead> findLeadsWithFilters(LeadStatus status, UUID dealerId, String sort, Pageable pageable);
+    // Keyset page: leads strictly after (afterCreatedAt, afterId); null cursor = first page
+    List<Lead> findFeedPage(LeadStatus status, UUID dealerId, boolean ascending,
+                            LocalDateTime afterCreatedAt, UUID afterId, int limit);
 }
 
@@ -2,19 +2,39 @@ package com.tyreplus.dealer.domain.repository;
 
 import com.tyreplus.dealer.domain.entity.Otp;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
  * Repository interface for OTP entity.
  * Part of the domain layer - no framework dependencies.
+ * Only the latest OTP per mobile is ever validated; implementations may keep just that one.
  */
 public interface OtpRepository {
     Otp save(Otp otp);
     Optional<Otp> findByMobileAndCode(String mobile, String code);
-    List<Otp> findByMobile(String mobile);
-    void deleteById(java.util.UUID id);
+    /**
+     * Returns the most recently issued OTP for the mobile, if any.
+     */
+    Optional<Otp> findLatestByMobile(String mobile);
+    /**
+     * Atomically counts one verification attempt against the OTP.
+     *
+     * @return the attempt count including this one, or 0 if the OTP is gone or was superseded
+     */
+    int recordAttempt(Otp otp);
+    /**
+     * Atomically marks the OTP as used.
+     *
+     * @return false if it was already used, gone, or superseded
+     */
+    boolean markUsed(Otp otp);
     void deleteByMobile(String mobile);
-    void deleteExpiredOtp();
+    /**
+     * Deletes up to {@code limit} OTPs that expired before {@code cutoff}.
+     *
+     * @return the number of OTPs deleted
+     */
+    int deleteExpiredBefore(LocalDateTime cutoff, int limit);
 }
 
@@ -2,7 +2,9 @@ package com.tyreplus.dealer.domain.repository;
 
 import com.tyreplus.dealer.domain.entity.Transaction;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -12,9 +14,15 @@ import java.util.UUID;
 public interface TransactionRepository {
     Transaction save(Transaction transaction);
 
-    List<Transaction> findByDealerId(UUID dealerId);
+    /**
+     * Returns up to {@code limit} of the dealer's transactions, newest first, positioned
+     * strictly before the given (createdAt, id) cursor. A null cursor starts from the newest.
+     */
+    List<Transaction> findPageByDealerId(UUID dealerId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit);
 
     List<Transaction> findByWalletId(UUID walletId);
 
+    Optional<Transaction> findByPaymentId(String paymentId);
+
     boolean existsByPaymentId(String paymentId);
 }
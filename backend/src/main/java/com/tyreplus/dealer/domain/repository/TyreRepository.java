@@ -1,12 +1,20 @@
 package com.tyreplus.dealer.domain.repository;
 
 import com.tyreplus.dealer.domain.entity.Tyre;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
+import com.tyreplus.dealer.domain.valueobject.TyreSize;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TyreRepository {
-    List<Tyre> search(String brand, String size, String pattern);
+    TyreSearchResult search(TyreSearchCriteria criteria);
+
+    /**
+     * Unpaged listing: brand, size and pattern must equal the stored values (null = any).
+     */
+    List<Tyre> findByExactFilters(String brand, String size, String pattern);
 
     Optional<Tyre> findById(UUID id);
 
@@ -15,4 +23,14 @@ public interface TyreRepository {
     List<String> getSizesByBrand(String brand);
 
     List<String> getPatternsByBrandAndSize(String brand, String size);
+
+    /**
+     * Tyres with the same width, aspect ratio and rim as size, any load or speed rating.
+     */
+    List<Tyre> findFitting(TyreSize size);
+
+    /**
+     * rimDiameter null means any rim; a width bound left null is open. page is 0-based.
+     */
+    List<Tyre> findBySizeRange(Integer rimDiameter, Integer minWidth, Integer maxWidth, int page, int pageSize);
 }
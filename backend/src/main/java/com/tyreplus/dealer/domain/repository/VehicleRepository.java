@@ -12,4 +12,9 @@ public interface VehicleRepository {
     List<String> findVariants(String type, String make, String model);
 
     List<String> findTyreSizes(String make, String model, String variant);
+
+    /**
+     * Changes whenever the master data does; same data, same value on every instance.
+     */
+    String catalogVersion();
 }
@@ -0,0 +1,17 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object for one day of a dealer's purchase rollup.
+ * day is a date on the dealer's own calendar.
+ */
+public record DailyPurchases(
+        LocalDate day,
+        int purchases,
+        long creditsSpent
+) {
+    public static DailyPurchases none(LocalDate day) {
+        return new DailyPurchases(day, 0, 0);
+    }
+}
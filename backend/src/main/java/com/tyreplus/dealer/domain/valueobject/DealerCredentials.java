@@ -0,0 +1,16 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Value Object with just what sign-in needs from a dealer: no address, hours or open days.
+ * passwordHash is null for dealers who only ever signed in with an OTP.
+ */
+public record DealerCredentials(
+        UUID dealerId,
+        String phoneNumber,
+        String passwordHash,
+        boolean verified,
+        String businessName
+) {
+}
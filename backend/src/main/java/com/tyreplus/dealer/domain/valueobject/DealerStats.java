@@ -0,0 +1,38 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Value Object holding a dealer's running dashboard counters.
+ * purchasesToday only applies to statsDay, a date on the dealer's own calendar (zone);
+ * on any other day it reads as zero.
+ */
+public record DealerStats(
+        UUID dealerId,
+        ZoneId zone,
+        long totalPurchased,
+        long convertedCount,
+        int purchasesToday,
+        LocalDate statsDay
+) {
+    public static DealerStats empty(UUID dealerId, ZoneId zone) {
+        return new DealerStats(dealerId, zone, 0, 0, 0, null);
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    public int purchasesOn(LocalDate day) {
+        return day.equals(statsDay) ? purchasesToday : 0;
+    }
+
+    /**
+     * Converted leads as a whole percentage of all leads purchased.
+     */
+    public int conversionRate() {
+        return totalPurchased > 0 ? (int) ((convertedCount * 100) / totalPurchased) : 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import java.util.Locale;
+
+/**
+ * Value Object for what a dealer typed into the sign-in box, classified up front so the
+ * lookup probes a single index. Emails are compared case-insensitively (lower-cased here);
+ * phone numbers lose the spaces, dashes and brackets people type around digits.
+ */
+public record LoginIdentifier(Type type, String value) {
+
+    public enum Type {
+        PHONE, EMAIL
+    }
+
+    private static final int MIN_DIGITS = 6;
+    private static final int MAX_DIGITS = 15;
+
+    public static LoginIdentifier parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            throw new IllegalArgumentException("Mobile number/Email is required");
+        }
+        String trimmed = raw.trim();
+        if (trimmed.indexOf('@') > 0) {
+            return new LoginIdentifier(Type.EMAIL, trimmed.toLowerCase(Locale.ROOT));
+        }
+        return new LoginIdentifier(Type.PHONE, normalizePhone(trimmed));
+    }
+
+    // Single pass instead of a regex replace plus match: this runs on every sign-in
+    private static String normalizePhone(String raw) {
+        StringBuilder digits = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c == '+' && digits.isEmpty()) {
+                digits.append(c);
+            } else if (c != ' ' && c != '-' && c != '(' && c != ')') {
+                throw new IllegalArgumentException("Enter a valid mobile number or email");
+            }
+        }
+        int count = digits.length() - (digits.indexOf("+") == 0 ? 1 : 0);
+        if (count < MIN_DIGITS || count > MAX_DIGITS) {
+            throw new IllegalArgumentException("Enter a valid mobile number or email");
+        }
+        return digits.toString();
+    }
+
+    public boolean isEmail() {
+        return type == Type.EMAIL;
+    }
+}
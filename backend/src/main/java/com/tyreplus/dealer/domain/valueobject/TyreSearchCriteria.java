@@ -0,0 +1,17 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+/**
+ * Value Object for a catalog search. Every filter is optional (null = any).
+ * brand and pattern match case-insensitively; size also accepts a prefix ("195/55") or a
+ * one-character typo ("195/56R16"). Prices are inclusive bounds. page is zero-based.
+ */
+public record TyreSearchCriteria(
+        String brand,
+        String size,
+        String pattern,
+        Double minPrice,
+        Double maxPrice,
+        int page,
+        int pageSize
+) {
+}
@@ -0,0 +1,29 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import com.tyreplus.dealer.domain.entity.Tyre;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value Object holding one page of catalog matches, cheapest first, plus facet counts.
+ * Each facet counts matches under every filter except its own, so the counts show what
+ * picking another value in that facet would return.
+ * matchedSizes lists the catalog sizes the size filter resolved to (prefix or typo matches).
+ */
+public record TyreSearchResult(
+        List<Tyre> items,
+        int page,
+        int pageSize,
+        int totalItems,
+        List<String> matchedSizes,
+        Facets facets
+) {
+    public record Facets(
+            Map<String, Integer> brands,
+            Map<String, Integer> sizes,
+            Map<String, Integer> patterns,
+            Map<String, Integer> priceRanges
+    ) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object for a tyre size designation, parsed out of the strings stored in
+ * tyres.size, vehicles.tyre_size, user_vehicles.tyre_size and sell_requests.tyre_size.
+ *
+ * Understands metric sizes ("195/55 R16 91V", "195/55ZR16", "90/90-12") and the inch-width
+ * sizes common on two-wheelers ("2.75-17", "4.00-8"). Width is always in millimetres (inch
+ * widths are converted) and aspectRatio is 0 for inch-width sizes, which do not state one.
+ * loadIndex and speedIndex are null when the designation leaves them out, and also when they
+ * are not a recognised rating: the dimensions are what fitment goes by, so a bad suffix never
+ * makes a size unreadable.
+ *
+ * The patterns and the dimension ranges below are repeated in V11__tyre_size_columns.sql,
+ * which ignores the suffix altogether; keep the two in step.
+ */
+public record TyreSize(
+        int width,
+        int aspectRatio,
+        Construction construction,
+        int rimDiameter,
+        Integer loadIndex,
+        String speedIndex
+) implements Comparable<TyreSize> {
+
+    public enum Construction {
+        RADIAL, DIAGONAL, BIAS_BELTED
+    }
+
+    private static final Pattern METRIC = Pattern.compile(
+            "^(\\d{2,3})\\s*/\\s*(\\d{2,3})\\s*(ZR|R|D|B|-)\\s*(\\d{1,2})(?:\\s*(\\d{2,3})\\s*(A[1-8]|[A-Z]))?$");
+    private static final Pattern INCH = Pattern.compile(
+            "^(\\d{1,2}\\.\\d{1,2})\\s*(R|D|B|-)\\s*(\\d{1,2})(?:\\s*(\\d{2,3})\\s*(A[1-8]|[A-Z]))?$");
+
+    // Speed symbols from slowest to fastest, so their position orders them
+    private static final List<String> SPEED_SYMBOLS = List.of(
+            "A1", "A2", "A3", "A4", "A5", "A6", "A7", "A8", "B", "C", "D", "E", "F", "G", "J", "K",
+            "L", "M", "N", "P", "Q", "R", "S", "T", "U", "H", "V", "W", "Y", "Z");
+
+    private static final BigDecimal MM_PER_INCH = new BigDecimal("25.4");
+    private static final BigDecimal INCH_WIDTH_STEP = new BigDecimal("0.05");
+
+    // Bit layout of encode(), most significant first, so encoded values sort like the sizes
+    private static final int SPEED_BITS = 5;
+    private static final int LOAD_BITS = 9;
+    private static final int CONSTRUCTION_BITS = 2;
+    private static final int ASPECT_BITS = 7;
+    private static final int WIDTH_BITS = 10;
+    private static final int RIM_BITS = 6;
+    private static final int LOAD_SHIFT = SPEED_BITS;
+    private static final int CONSTRUCTION_SHIFT = LOAD_SHIFT + LOAD_BITS;
+    private static final int ASPECT_SHIFT = CONSTRUCTION_SHIFT + CONSTRUCTION_BITS;
+    private static final int WIDTH_SHIFT = ASPECT_SHIFT + ASPECT_BITS;
+    private static final int RIM_SHIFT = WIDTH_SHIFT + WIDTH_BITS;
+
+    public TyreSize {
+        if (width < 1 || width >= 1 << WIDTH_BITS) {
+            throw new IllegalArgumentException("Tyre width out of range: " + width);
+        }
+        if (aspectRatio < 0 || aspectRatio >= 1 << ASPECT_BITS) {
+            throw new IllegalArgumentException("Aspect ratio out of range: " + aspectRatio);
+        }
+        if (construction == null) {
+            throw new IllegalArgumentException("Construction is required");
+        }
+        if (rimDiameter < 1 || rimDiameter >= 1 << RIM_BITS) {
+            throw new IllegalArgumentException("Rim diameter out of range: " + rimDiameter);
+        }
+        if (loadIndex != null && (loadIndex < 0 || loadIndex >= (1 << LOAD_BITS) - 1)) {
+            throw new IllegalArgumentException("Load index out of range: " + loadIndex);
+        }
+        if (speedIndex != null && !SPEED_SYMBOLS.contains(speedIndex)) {
+            throw new IllegalArgumentException("Unknown speed index: " + speedIndex);
+        }
+    }
+
+    public static TyreSize parse(String raw) {
+        return tryParse(raw).orElseThrow(() -> new IllegalArgumentException("Unrecognised tyre size: " + raw));
+    }
+
+    /**
+     * Empty for null, blank or unrecognised designations rather than throwing, for sizes
+     * read back from stored free text.
+     */
+    public static Optional<TyreSize> tryParse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Optional.empty();
+        }
+        String size = raw.trim().toUpperCase(Locale.ROOT);
+        try {
+            Matcher metric = METRIC.matcher(size);
+            if (metric.matches()) {
+                return Optional.of(new TyreSize(
+                        Integer.parseInt(metric.group(1)),
+                        Integer.parseInt(metric.group(2)),
+                        construction(metric.group(3)),
+                        Integer.parseInt(metric.group(4)),
+                        loadIndex(metric.group(5)),
+                        speedIndex(metric.group(6))));
+            }
+            Matcher inch = INCH.matcher(size);
+            if (inch.matches()) {
+                return Optional.of(new TyreSize(
+                        new BigDecimal(inch.group(1)).multiply(MM_PER_INCH).setScale(0, RoundingMode.HALF_UP).intValue(),
+                        0,
+                        construction(inch.group(2)),
+                        Integer.parseInt(inch.group(3)),
+                        loadIndex(inch.group(4)),
+                        speedIndex(inch.group(5))));
+            }
+        } catch (IllegalArgumentException e) {
+            // Matched the shape but a dimension is out of range, e.g. a 70" rim
+        }
+        return Optional.empty();
+    }
+
+    private static Integer loadIndex(String digits) {
+        if (digits == null) {
+            return null;
+        }
+        int load = Integer.parseInt(digits);
+        return load < (1 << LOAD_BITS) - 1 ? load : null;
+    }
+
+    private static String speedIndex(String symbol) {
+        return symbol != null && SPEED_SYMBOLS.contains(symbol) ? symbol : null;
+    }
+
+    private static Construction construction(String symbol) {
+        return switch (symbol) {
+            case "R", "ZR" -> Construction.RADIAL;
+            case "B" -> Construction.BIAS_BELTED;
+            default -> Construction.DIAGONAL;
+        };
+    }
+
+    /**
+     * Packs the size into 39 bits: rim, width, aspect ratio, construction, load index, speed
+     * index, most significant first. Comparing encoded values orders sizes by rim, then width,
+     * then aspect ratio, which is the order the fitment lookups scan in.
+     */
+    public long encode() {
+        return (long) rimDiameter << RIM_SHIFT
+                | (long) width << WIDTH_SHIFT
+                | (long) aspectRatio << ASPECT_SHIFT
+                | (long) construction.ordinal() << CONSTRUCTION_SHIFT
+                | (long) (loadIndex != null ? loadIndex + 1 : 0) << LOAD_SHIFT
+                | (speedIndex != null ? SPEED_SYMBOLS.indexOf(speedIndex) + 1 : 0);
+    }
+
+    public static TyreSize decode(long encoded) {
+        int load = (int) field(encoded, LOAD_SHIFT, LOAD_BITS);
+        int speed = (int) field(encoded, 0, SPEED_BITS);
+        return new TyreSize(
+                (int) field(encoded, WIDTH_SHIFT, WIDTH_BITS),
+                (int) field(encoded, ASPECT_SHIFT, ASPECT_BITS),
+                Construction.values()[(int) field(encoded, CONSTRUCTION_SHIFT, CONSTRUCTION_BITS)],
+                (int) field(encoded, RIM_SHIFT, RIM_BITS),
+                load > 0 ? load - 1 : null,
+                speed > 0 ? SPEED_SYMBOLS.get(speed - 1) : null);
+    }
+
+    private static long field(long encoded, int shift, int bits) {
+        return (encoded >>> shift) & ((1L << bits) - 1);
+    }
+
+    /**
+     * Same tyre dimensions, whatever the load and speed rating.
+     */
+    public boolean fits(TyreSize other) {
+        return width == other.width && aspectRatio == other.aspectRatio && rimDiameter == other.rimDiameter;
+    }
+
+    @Override
+    public int compareTo(TyreSize other) {
+        return Long.compare(encode(), other.encode());
+    }
+
+    /**
+     * Canonical designation, e.g. "195/55 R16 91V", "90/90-12" or "2.75-17". The load and
+     * speed rating is printed only when both are known, so the result always parses back.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (aspectRatio > 0) {
+            text.append(width).append('/').append(aspectRatio);
+        } else {
+            // Inch widths come in 0.05" steps, which undoes the rounding to whole millimetres
+            BigDecimal inches = BigDecimal.valueOf(width).divide(MM_PER_INCH, 4, RoundingMode.HALF_UP);
+            text.append(inches.divide(INCH_WIDTH_STEP, 0, RoundingMode.HALF_UP).multiply(INCH_WIDTH_STEP)
+                    .setScale(2, RoundingMode.UNNECESSARY).toPlainString());
+        }
+        switch (construction) {
+            case RADIAL -> text.append(" R");
+            case BIAS_BELTED -> text.append(" B");
+            case DIAGONAL -> text.append('-');
+        }
+        text.append(rimDiameter);
+        // A half rating such as "91" alone is not a designation parse() reads back
+        if (loadIndex != null && speedIndex != null) {
+            text.append(' ').append(loadIndex).append(speedIndex);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Content hash shared by the catalog snapshots, used as their version.
+ */
+final class CatalogDigest {
+
+    private CatalogDigest() {
+    }
+
+    /**
+     * @param sortedRows one string per row, in a fixed order, so equal data hashes equally
+     */
+    static String of(Collection<String> sortedRows) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (String row : sortedRows) {
+                sha256.update(row.getBytes(StandardCharsets.UTF_8));
+                sha256.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(sha256.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tyreplus.dealer.domain.valueobject.DealerStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Small in-process cache of dealer dashboard counters.
+ * Writers on this node evict after commit; the TTL bounds staleness from other nodes.
+ * Entries are bucketed by the dealer's local day, so a time zone change evicts too.
+ */
+@Component
+public class DealerStatsCache {
+
+    private final Cache<UUID, DealerStats> local;
+
+    public DealerStatsCache(MeterRegistry meterRegistry,
+            @Value("${tyreplus.cache.dealer-stats.max-size:10000}") long maxSize,
+            @Value("${tyreplus.cache.dealer-stats.ttl:PT30S}") Duration ttl) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "dealer-stats");
+    }
+
+    public DealerStats get(UUID dealerId, Function<UUID, DealerStats> loader) {
+        return local.get(dealerId, loader);
+    }
+
+    /**
+     * Drops the entry now and again once the surrounding transaction completes,
+     * so a concurrent read cannot re-cache the pre-commit counters.
+     */
+    public void evict(UUID dealerId) {
+        TransactionalEviction.evictNowAndAfterCompletion(() -> local.invalidate(dealerId));
+    }
+}
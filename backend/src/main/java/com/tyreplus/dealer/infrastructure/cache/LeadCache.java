@@ -0,0 +1,168 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tyreplus.dealer.domain.entity.Lead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Two-tier read-through cache for leads by id.
+ * Tier 1 is a bounded in-process Caffeine cache; tier 2 is Redis and only exists when
+ * {@code tyreplus.cache.redis.enabled=true}. Redis errors degrade to a database read.
+ * The local TTL bounds how stale another node's copy can get, since only Redis is shared.
+ */
+@Slf4j
+@Component
+public class LeadCache {
+
+    private static final String CACHE_KEY_PREFIX = "LEAD_";
+
+    private final Cache<UUID, Lead> local;
+    private final RedisTemplate<String, Lead> redisTemplate;
+    private final Duration redisTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public LeadCache(ObjectProvider<RedisTemplate<String, Lead>> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${tyreplus.cache.leads.max-size:10000}") long maxSize,
+            @Value("${tyreplus.cache.leads.ttl:PT30S}") Duration ttl,
+            @Value("${tyreplus.cache.leads.redis-ttl:PT5M}") Duration redisTtl) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.redisTemplate = redisTemplate.getIfAvailable();
+        this.redisTtl = redisTtl;
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size under cache=leads
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "leads");
+        this.redisHits = redisGets(meterRegistry, "hit");
+        this.redisMisses = redisGets(meterRegistry, "miss");
+        this.redisErrors = Counter.builder("cache.errors")
+                .tag("cache", "leads.redis")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached lead or loads it with {@code loader} and populates both tiers.
+     * Callers always get their own copy, so mutating it never leaks into the cache.
+     */
+    public Optional<Lead> get(UUID id, Function<UUID, Optional<Lead>> loader) {
+        Lead cached = local.getIfPresent(id);
+        if (cached == null) {
+            cached = fromRedis(id);
+            if (cached != null) {
+                local.put(id, cached);
+            }
+        }
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+
+        Optional<Lead> loaded = loader.apply(id);
+        loaded.ifPresent(lead -> {
+            Lead snapshot = copy(lead);
+            local.put(id, snapshot);
+            toRedis(id, snapshot);
+        });
+        return loaded;
+    }
+
+    /**
+     * Drops the lead from both tiers now and again once the surrounding transaction
+     * completes, so a concurrent read cannot re-cache the pre-commit row.
+     */
+    public void evict(UUID id) {
+        if (id == null) {
+            return;
+        }
+        TransactionalEviction.evictNowAndAfterCompletion(() -> doEvict(id));
+    }
+
+    public void evictAll(Collection<UUID> ids) {
+        ids.forEach(this::evict);
+    }
+
+    private void doEvict(UUID id) {
+        local.invalidate(id);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(CACHE_KEY_PREFIX + id);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Redis evict failed for lead {}: {}", id, e.getMessage());
+        }
+    }
+
+    private Lead fromRedis(UUID id) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            Lead lead = redisTemplate.opsForValue().get(CACHE_KEY_PREFIX + id);
+            (lead != null ? redisHits : redisMisses).increment();
+            return lead;
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Redis read failed for lead {}: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void toRedis(UUID id, Lead lead) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(CACHE_KEY_PREFIX + id, lead, redisTtl);
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Redis write failed for lead {}: {}", id, e.getMessage());
+        }
+    }
+
+    private static Counter redisGets(MeterRegistry registry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", "leads.redis")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Lead copy(Lead lead) {
+        return Lead.builder()
+                .id(lead.getId())
+                .customerName(lead.getCustomerName())
+                .customerPhone(lead.getCustomerPhone())
+                .customerEmail(lead.getCustomerEmail())
+                .vehicleModel(lead.getVehicleModel())
+                .vehicleYear(lead.getVehicleYear())
+                .status(lead.getStatus())
+                .leadCost(lead.getLeadCost())
+                .purchasedByDealerId(lead.getPurchasedByDealerId())
+                .createdAt(lead.getCreatedAt())
+                .purchasedAt(lead.getPurchasedAt())
+                .skippedByDealerIds(lead.getSkippedByDealerIds() != null
+                        ? new HashSet<>(lead.getSkippedByDealerIds())
+                        : new HashSet<>())
+                .build();
+    }
+}
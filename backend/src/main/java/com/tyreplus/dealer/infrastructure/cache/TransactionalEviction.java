@@ -0,0 +1,27 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evict-twice helper shared by the local caches: once now, so this transaction stops seeing
+ * the old value, and again once the surrounding transaction completes, so a concurrent read
+ * cannot re-cache the pre-commit row in between.
+ */
+final class TransactionalEviction {
+
+    private TransactionalEviction() {
+    }
+
+    static void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
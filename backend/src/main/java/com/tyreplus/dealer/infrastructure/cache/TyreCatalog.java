@@ -0,0 +1,491 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.tyreplus.dealer.domain.entity.Tyre;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Immutable, searchable snapshot of the tyre catalog.
+ *
+ * Tyres are held in an array sorted by price, so a position doubles as the result order and a
+ * price range is one contiguous run found by binary search. Brand, size and pattern each have
+ * an inverted index (value -> BitSet of positions); a search ANDs the postings of the filters
+ * given and facet counts are one pass over the matching positions per facet. Counts over the
+ * whole catalog (a facet nothing else filters) are computed once per snapshot. The unpaged
+ * listing keeps its own indexes on the stored spellings, as it matches values exactly.
+ *
+ * The Tyre instances are shared by every request that reads this snapshot; treat them as
+ * read-only. A reload builds a new snapshot rather than touching this one.
+ */
+public final class TyreCatalog {
+
+    // Upper bounds (exclusive) of the price facet buckets; the last bucket is open-ended
+    private static final double[] PRICE_BOUNDS = {3000, 5000, 8000, 12000};
+    private static final String[] PRICE_LABELS = {"0-3000", "3000-5000", "5000-8000", "8000-12000", "12000+"};
+
+    private static final int BRAND = 0;
+    private static final int SIZE = 1;
+    private static final int PATTERN = 2;
+    private static final int PRICE = 3;
+    private final Tyre[] tyres;
+    private final double[] prices;
+    private final int[] priceBucketOf;
+    private final Dimension brands;
+    private final Dimension sizes;
+    private final Dimension patterns;
+    private final Dimension storedBrands;
+    private final Dimension storedSizes;
+    private final Dimension storedPatterns;
+    private final Map<String, Integer> allPriceRanges;
+    private final List<String> brandNames;
+    private final Map<String, List<String>> sizesByBrand;
+    private final Map<List<String>, List<String>> patternsByBrandAndSize;
+    private final String version;
+
+    private TyreCatalog(Tyre[] tyres, String version) {
+        this.tyres = tyres;
+        this.version = version;
+        this.prices = new double[tyres.length];
+        this.priceBucketOf = new int[tyres.length];
+        for (int i = 0; i < tyres.length; i++) {
+            prices[i] = tyres[i].getPrice();
+            priceBucketOf[i] = priceBucket(prices[i]);
+        }
+        this.brands = new Dimension(tyres, Tyre::getBrand, TyreCatalog::normalizeText);
+        this.sizes = new Dimension(tyres, Tyre::getSize, TyreCatalog::normalizeSize);
+        this.patterns = new Dimension(tyres, Tyre::getPattern, TyreCatalog::normalizeText);
+        this.storedBrands = new Dimension(tyres, Tyre::getBrand, Function.identity());
+        this.storedSizes = new Dimension(tyres, Tyre::getSize, Function.identity());
+        this.storedPatterns = new Dimension(tyres, Tyre::getPattern, Function.identity());
+        this.allPriceRanges = countPriceRanges(null);
+
+        // The exact-value listings keep the stored spelling, as the SELECT DISTINCTs did
+        TreeMap<String, TreeMap<String, TreeSet<String>>> tree = new TreeMap<>();
+        for (Tyre tyre : tyres) {
+            tree.computeIfAbsent(tyre.getBrand(), k -> new TreeMap<>())
+                    .computeIfAbsent(tyre.getSize(), k -> new TreeSet<>())
+                    .add(tyre.getPattern());
+        }
+        Map<String, List<String>> sizeLists = new HashMap<>();
+        Map<List<String>, List<String>> patternLists = new HashMap<>();
+        tree.forEach((brand, bySize) -> {
+            sizeLists.put(brand, List.copyOf(bySize.keySet()));
+            bySize.forEach((size, names) -> patternLists.put(List.of(brand, size), List.copyOf(names)));
+        });
+        this.brandNames = List.copyOf(tree.keySet());
+        this.sizesByBrand = Map.copyOf(sizeLists);
+        this.patternsByBrandAndSize = Map.copyOf(patternLists);
+    }
+
+    public static TyreCatalog of(Collection<Tyre> tyres) {
+        Tyre[] sorted = tyres.toArray(new Tyre[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(Tyre::getPrice)
+                .thenComparing(Tyre::getBrand)
+                .thenComparing(Tyre::getPattern)
+                .thenComparing(Tyre::getSize));
+        return new TyreCatalog(sorted, version(tyres));
+    }
+
+    /**
+     * Content hash of the tyres, independent of their order: equal data gives an equal
+     * version, so a reload can tell nothing changed before building any index.
+     */
+    public static String version(Collection<Tyre> tyres) {
+        List<String> rows = new ArrayList<>(tyres.size());
+        for (Tyre t : tyres) {
+            rows.add(String.join("\u0000", String.valueOf(t.getId()), t.getBrand(), t.getPattern(), t.getSize(),
+                    String.valueOf(t.getPrice()), t.getProductCode(),
+                    t.getFeatures() != null ? String.join(",", t.getFeatures()) : null,
+                    t.getImageUrl(), String.valueOf(t.getWarrantyYears())));
+        }
+        Collections.sort(rows);
+        return CatalogDigest.of(rows);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int size() {
+        return tyres.length;
+    }
+
+    public List<String> brands() {
+        return brandNames;
+    }
+
+    public List<String> sizesByBrand(String brand) {
+        return brand == null ? List.of() : sizesByBrand.getOrDefault(brand, List.of());
+    }
+
+    public List<String> patternsByBrandAndSize(String brand, String size) {
+        if (brand == null || size == null) {
+            return List.of();
+        }
+        return patternsByBrandAndSize.getOrDefault(List.of(brand, size), List.of());
+    }
+
+    /**
+     * Every tyre whose stored brand, size and pattern equal the values given (null = any), in
+     * price order. Case-sensitive with no size tolerance and no facets, as the SQL it replaced.
+     */
+    public List<Tyre> list(String brand, String size, String pattern) {
+        BitSet[] filters = new BitSet[4];
+        if (brand != null) {
+            filters[BRAND] = storedBrands.exact(brand);
+        }
+        if (size != null) {
+            filters[SIZE] = storedSizes.exact(size);
+        }
+        if (pattern != null) {
+            filters[PATTERN] = storedPatterns.exact(pattern);
+        }
+        BitSet hits = intersect(filters, -1);
+        int total = hits == null ? tyres.length : hits.cardinality();
+        return page(hits, 0, Integer.MAX_VALUE, total);
+    }
+
+    public TyreSearchResult search(TyreSearchCriteria criteria) {
+        List<String> matchedSizes = List.of();
+        BitSet[] filters = new BitSet[4];
+        if (criteria.brand() != null) {
+            filters[BRAND] = brands.exact(normalizeText(criteria.brand()));
+        }
+        if (criteria.size() != null) {
+            int[] ids = sizes.resolveTolerant(normalizeSize(criteria.size()));
+            filters[SIZE] = sizes.union(ids);
+            matchedSizes = sizes.labels(ids);
+        }
+        if (criteria.pattern() != null) {
+            filters[PATTERN] = patterns.exact(normalizeText(criteria.pattern()));
+        }
+        if (criteria.minPrice() != null || criteria.maxPrice() != null) {
+            filters[PRICE] = priceRange(criteria.minPrice(), criteria.maxPrice());
+        }
+
+        BitSet hits = intersect(filters, -1);
+        BitSet priceFacetBase = intersect(filters, PRICE);
+        TyreSearchResult.Facets facets = new TyreSearchResult.Facets(
+                brands.count(intersect(filters, BRAND)),
+                sizes.count(intersect(filters, SIZE)),
+                patterns.count(intersect(filters, PATTERN)),
+                priceFacetBase == null ? allPriceRanges : countPriceRanges(priceFacetBase));
+
+        int total = hits == null ? tyres.length : hits.cardinality();
+        return new TyreSearchResult(page(hits, criteria.page(), criteria.pageSize(), total), criteria.page(),
+                criteria.pageSize(), total, matchedSizes, facets);
+    }
+
+    private List<Tyre> page(BitSet hits, int page, int pageSize, int total) {
+        long skip = (long) page * pageSize;
+        if (skip >= total) {
+            return List.of();
+        }
+        List<Tyre> items = new ArrayList<>((int) Math.min(pageSize, total - skip));
+        if (hits == null) {
+            for (int position = (int) skip; position < tyres.length && items.size() < pageSize; position++) {
+                items.add(tyres[position]);
+            }
+            return items;
+        }
+        int position = hits.nextSetBit(0);
+        for (long skipped = 0; skipped < skip && position >= 0; skipped++) {
+            position = hits.nextSetBit(position + 1);
+        }
+        while (position >= 0 && items.size() < pageSize) {
+            items.add(tyres[position]);
+            position = hits.nextSetBit(position + 1);
+        }
+        return items;
+    }
+
+    /**
+     * AND of every filter given, except the one at index skip (a facet does not filter itself).
+     * null means no filter applied, i.e. the whole catalog, whose counts are precomputed.
+     */
+    private BitSet intersect(BitSet[] filters, int skip) {
+        BitSet result = null;
+        for (int i = 0; i < filters.length; i++) {
+            if (i == skip || filters[i] == null) {
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) filters[i].clone();
+            } else {
+                result.and(filters[i]);
+            }
+        }
+        return result;
+    }
+
+    private BitSet priceRange(Double min, Double max) {
+        int from = min == null ? 0 : lowerBound(min);
+        int to = max == null ? tyres.length : upperBound(max);
+        BitSet range = new BitSet(tyres.length);
+        if (from < to) {
+            range.set(from, to);
+        }
+        return range;
+    }
+
+    // First position with price >= value
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = prices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position with price > value
+    private int upperBound(double value) {
+        int low = 0;
+        int high = prices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // set == null counts the whole catalog
+    private Map<String, Integer> countPriceRanges(BitSet set) {
+        int[] counts = new int[PRICE_LABELS.length];
+        if (set == null) {
+            for (int bucket : priceBucketOf) {
+                counts[bucket]++;
+            }
+        } else {
+            for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+                counts[priceBucketOf[i]]++;
+            }
+        }
+        Map<String, Integer> facet = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                facet.put(PRICE_LABELS[bucket], counts[bucket]);
+            }
+        }
+        return Collections.unmodifiableMap(facet);
+    }
+
+    private static int priceBucket(double price) {
+        int bucket = 0;
+        while (bucket < PRICE_BOUNDS.length && price >= PRICE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    static String normalizeText(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * "195/55 R16", "195/55R16" and "195 55 r16" all become "19555R16": separators people
+     * type inconsistently are dropped, the letters and digits that carry meaning are kept.
+     */
+    static String normalizeSize(String value) {
+        StringBuilder key = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = Character.toUpperCase(value.charAt(i));
+            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || c == '.') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Optimal string alignment distance (edits plus adjacent swaps), giving up once it
+     * exceeds max.
+     */
+    static int boundedEditDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * One searchable attribute: distinct normalized values, each with the stored spelling
+     * shown in facets and a posting list of the tyres that carry it.
+     */
+    private static final class Dimension {
+
+        // Typo tolerance only kicks in for keys long enough that one edit is still specific
+        private static final int MIN_TYPO_KEY_LENGTH = 5;
+
+        private final String[] keys;
+        private final String[] labels;
+        private final Map<String, Integer> ids;
+        private final BitSet[] postings;
+        private final int[] valueOf;
+        private final Map<String, Integer> allCounts;
+
+        Dimension(Tyre[] tyres, Function<Tyre, String> attribute, Function<String, String> normalizer) {
+            TreeMap<String, String> labelByKey = new TreeMap<>();
+            String[] keyOf = new String[tyres.length];
+            for (int i = 0; i < tyres.length; i++) {
+                String value = attribute.apply(tyres[i]);
+                keyOf[i] = normalizer.apply(value);
+                labelByKey.putIfAbsent(keyOf[i], value);
+            }
+            this.keys = labelByKey.keySet().toArray(new String[0]);
+            this.labels = labelByKey.values().toArray(new String[0]);
+            Map<String, Integer> idMap = new HashMap<>();
+            for (int id = 0; id < keys.length; id++) {
+                idMap.put(keys[id], id);
+            }
+            this.ids = Map.copyOf(idMap);
+            this.postings = new BitSet[keys.length];
+            for (int id = 0; id < keys.length; id++) {
+                postings[id] = new BitSet(tyres.length);
+            }
+            this.valueOf = new int[tyres.length];
+            for (int i = 0; i < tyres.length; i++) {
+                valueOf[i] = ids.get(keyOf[i]);
+                postings[valueOf[i]].set(i);
+            }
+            int[] counts = new int[keys.length];
+            for (int id = 0; id < keys.length; id++) {
+                counts[id] = postings[id].cardinality();
+            }
+            this.allCounts = toFacet(counts);
+        }
+
+        BitSet exact(String key) {
+            Integer id = ids.get(key);
+            return id != null ? postings[id] : new BitSet();
+        }
+
+        /**
+         * Exact key, else every key it is a prefix of, else every key one edit away.
+         */
+        int[] resolveTolerant(String key) {
+            Integer id = ids.get(key);
+            if (id != null) {
+                return new int[]{id};
+            }
+            if (key.isEmpty()) {
+                return new int[0];
+            }
+            int from = Arrays.binarySearch(keys, key);
+            from = from >= 0 ? from : -from - 1;
+            int to = from;
+            while (to < keys.length && keys[to].startsWith(key)) {
+                to++;
+            }
+            if (to > from) {
+                int[] prefixed = new int[to - from];
+                for (int i = 0; i < prefixed.length; i++) {
+                    prefixed[i] = from + i;
+                }
+                return prefixed;
+            }
+            if (key.length() < MIN_TYPO_KEY_LENGTH) {
+                return new int[0];
+            }
+            List<Integer> close = new ArrayList<>();
+            for (int candidate = 0; candidate < keys.length; candidate++) {
+                if (boundedEditDistance(key, keys[candidate], 1) <= 1) {
+                    close.add(candidate);
+                }
+            }
+            return close.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        BitSet union(int[] selected) {
+            if (selected.length == 1) {
+                return postings[selected[0]];
+            }
+            BitSet union = new BitSet();
+            for (int id : selected) {
+                union.or(postings[id]);
+            }
+            return union;
+        }
+
+        List<String> labels(int[] selected) {
+            List<String> names = new ArrayList<>(selected.length);
+            for (int id : selected) {
+                names.add(labels[id]);
+            }
+            return names;
+        }
+
+        // set == null counts the whole catalog
+        Map<String, Integer> count(BitSet set) {
+            if (set == null) {
+                return allCounts;
+            }
+            int[] counts = new int[keys.length];
+            for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+                counts[valueOf[i]]++;
+            }
+            return toFacet(counts);
+        }
+
+        // Facet values in key order, zero counts left out
+        private Map<String, Integer> toFacet(int[] counts) {
+            Map<String, Integer> facet = new LinkedHashMap<>();
+            for (int id = 0; id < counts.length; id++) {
+                if (counts[id] > 0) {
+                    facet.put(labels[id], counts[id]);
+                }
+            }
+            return Collections.unmodifiableMap(facet);
+        }
+    }
+}
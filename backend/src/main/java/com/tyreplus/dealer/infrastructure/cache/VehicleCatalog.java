@@ -0,0 +1,115 @@
+package com.tyreplus.dealer.infrastructure.cache;
+
+import com.tyreplus.dealer.domain.entity.Vehicle;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of the vehicle master data for the picker cascade:
+ * type -> make -> model -> variant, plus tyre sizes per make/model/variant.
+ *
+ * Every level keeps its child names as a sorted, pre-built list, so a cascade call is a few
+ * hash lookups and returns a shared list without copying. A snapshot is never mutated once
+ * built; a reload builds a new one and swaps the reference.
+ */
+public final class VehicleCatalog {
+
+    private final Level root;
+    private final Map<List<String>, List<String>> tyreSizes;
+    private final String version;
+    private final int rows;
+
+    private VehicleCatalog(Level root, Map<List<String>, List<String>> tyreSizes, String version, int rows) {
+        this.root = root;
+        this.tyreSizes = tyreSizes;
+        this.version = version;
+        this.rows = rows;
+    }
+
+    public static VehicleCatalog of(Collection<Vehicle> vehicles) {
+        Branch root = new Branch();
+        Map<List<String>, TreeSet<String>> sizes = new HashMap<>();
+        TreeSet<String> distinctRows = new TreeSet<>();
+        for (Vehicle v : vehicles) {
+            root.child(v.getType()).child(v.getMake()).child(v.getModel()).child(v.getVariant());
+            // Sizes are looked up without the type, as the picker asks for them that way
+            sizes.computeIfAbsent(List.of(v.getMake(), v.getModel(), v.getVariant()), k -> new TreeSet<>())
+                    .add(v.getTyreSize());
+            distinctRows.add(String.join("\u0000",
+                    v.getType(), v.getMake(), v.getModel(), v.getVariant(), v.getTyreSize()));
+        }
+
+        Map<List<String>, List<String>> frozenSizes = new HashMap<>();
+        sizes.forEach((key, value) -> frozenSizes.put(key, List.copyOf(value)));
+        return new VehicleCatalog(root.freeze(), Map.copyOf(frozenSizes), CatalogDigest.of(distinctRows), distinctRows.size());
+    }
+
+    public List<String> makes(String type) {
+        return root.names(type);
+    }
+
+    public List<String> models(String type, String make) {
+        return root.child(type).names(make);
+    }
+
+    public List<String> variants(String type, String make, String model) {
+        return root.child(type).child(make).names(model);
+    }
+
+    public List<String> tyreSizes(String make, String model, String variant) {
+        if (make == null || model == null || variant == null) {
+            return List.of();
+        }
+        return tyreSizes.getOrDefault(List.of(make, model, variant), List.of());
+    }
+
+    /**
+     * Content hash of the distinct rows: equal data gives an equal version on every node,
+     * so it can be handed out as an ETag.
+     */
+    public String version() {
+        return version;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * One level of the cascade: the sorted names below it and the level behind each name.
+     */
+    private record Level(Map<String, Level> children, List<String> sortedNames) {
+
+        private static final Level LEAF = new Level(Map.of(), List.of());
+
+        Level child(String name) {
+            return name == null ? LEAF : children.getOrDefault(name, LEAF);
+        }
+
+        List<String> names(String name) {
+            return child(name).sortedNames();
+        }
+    }
+
+    private static final class Branch {
+        private final TreeMap<String, Branch> children = new TreeMap<>();
+
+        Branch child(String name) {
+            return children.computeIfAbsent(name, k -> new Branch());
+        }
+
+        Level freeze() {
+            if (children.isEmpty()) {
+                return Level.LEAF;
+            }
+            Map<String, Level> frozen = new HashMap<>();
+            children.forEach((name, branch) -> frozen.put(name, branch.freeze()));
+            return new Level(Map.copyOf(frozen), List.copyOf(children.keySet()));
+        }
+    }
+}
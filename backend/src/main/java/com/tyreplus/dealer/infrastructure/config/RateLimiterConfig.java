@@ -1,6 +1,5 @@
 package com.tyreplus.dealer.infrastructure.config;
 
-/*
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
@@ -11,18 +10,23 @@ import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
-*/
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 
-/*
+/**
+ * Redis-backed buckets for multi-node deployments, shared by every instance.
+ * Only active with {@code tyreplus.ratelimit.redis.enabled=true}; otherwise
+ * RateLimitingFilter keeps its buckets in process.
+ */
 @Configuration
+@ConditionalOnProperty(name = "tyreplus.ratelimit.redis.enabled", havingValue = "true")
 public class RateLimiterConfig {
 
-    @Bean
-    public RedisClient redisClient(
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient rateLimitRedisClient(
             @Value("${spring.data.redis.host}") String redisHost,
             @Value("${spring.data.redis.port}") int redisPort
     ) {
@@ -35,9 +39,9 @@ public class RateLimiterConfig {
     }
 
     @Bean
-    public ProxyManager<String> proxyManager(RedisClient redisClient) {
+    public ProxyManager<String> proxyManager(RedisClient rateLimitRedisClient) {
         // Connects Bucket4j to Redis using the Lettuce driver
-        StatefulRedisConnection<String, byte[]> connection = redisClient
+        StatefulRedisConnection<String, byte[]> connection = rateLimitRedisClient
                 .connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
 
         return LettuceBasedProxyManager.builderFor(connection)
@@ -45,7 +49,3 @@ public class RateLimiterConfig {
                 .build();
     }
 }
-*/
-@Configuration
-public class RateLimiterConfig {
-}
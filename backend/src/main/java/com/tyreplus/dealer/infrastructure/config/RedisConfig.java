@@ -5,7 +5,6 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.tyreplus.dealer.domain.entity.Lead;
 import com.tyreplus.dealer.domain.entity.RechargePackage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -13,7 +12,18 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 */
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tyreplus.dealer.domain.entity.Lead;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.List;
 
@@ -21,31 +31,6 @@ import java.util.List;
 @Configuration
 public class RedisConfig {
 
-    @Bean
-    public RedisTemplate<String, Lead> leadRedisTemplate(
-            RedisConnectionFactory connectionFactory) {
-
-        RedisTemplate<String, Lead> template = new RedisTemplate<>();
-        template.setConnectionFactory(connectionFactory);
-
-        ObjectMapper mapper = JsonMapper.builder()
-                .addModule(new JavaTimeModule())
-                .build();
-
-        JavaType type = mapper.getTypeFactory()
-                .constructType(Lead.class);
-
-        Jackson2JsonRedisSerializer<Lead> serializer =
-                new Jackson2JsonRedisSerializer<>(type);
-
-        template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(serializer);
-
-        template.afterPropertiesSet();
-        return template;
-    }
-
-
     @Bean
     public RedisTemplate<String, RechargePackage> rechargePackageRedisTemplate(
             RedisConnectionFactory connectionFactory) {
@@ -97,6 +82,29 @@ public class RedisConfig {
 
 }
 */
+/**
+ * Shared Redis tier for the lead cache. Only created when
+ * {@code tyreplus.cache.redis.enabled=true}; single-node deployments run on the in-process tier alone.
+ */
 @Configuration
+@ConditionalOnProperty(name = "tyreplus.cache.redis.enabled", havingValue = "true")
 public class RedisConfig {
+
+    @Bean
+    public RedisTemplate<String, Lead> leadRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Lead> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        // Lead exposes derived getters (isAvailable), so ignore them on the way back in
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(mapper, Lead.class));
+
+        template.afterPropertiesSet();
+        return template;
+    }
 }
@@ -2,13 +2,17 @@ package com.tyreplus.dealer.infrastructure.config;
 
 import com.tyreplus.dealer.infrastructure.security.CustomUserDetailsService;
 import com.tyreplus.dealer.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -16,6 +20,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Security configuration with JWT authentication.
@@ -40,9 +45,13 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Completion dispatch of an already-authorized SSE stream
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/dealer/**").authenticated()
                         .requestMatchers("/api/v1/leads/**").authenticated()
+                        // Partner feeds authenticate with X-Ingest-Key in the controller
+                        .requestMatchers("/api/v1/ingest/**").permitAll()
                         // Allow static resources for frontend
                         .requestMatchers("/", "/index.html", "/static/**", "/*.js", "/*.css", "/*.ico", "/*.png",
                                 "/*.json", "/_next/**")
@@ -68,8 +77,20 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * New hashes are written as {id}hash with the configured algorithm. Hashes stored before
+     * the prefix existed are plain BCrypt and still verify; PasswordHashingService upgrades
+     * outdated ones on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // cost factor 12 (good balance)
+    public PasswordEncoder passwordEncoder(
+            @Value("${tyreplus.security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${tyreplus.security.password-hashing.bcrypt-strength:12}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
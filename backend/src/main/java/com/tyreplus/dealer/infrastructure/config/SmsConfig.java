@@ -0,0 +1,36 @@
+package com.tyreplus.dealer.infrastructure.config;
+
+import com.tyreplus.dealer.application.service.SmsService;
+import com.tyreplus.dealer.infrastructure.sms.AsyncSmsService;
+import com.tyreplus.dealer.infrastructure.sms.ConsoleSmsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Wraps the SMS gateway in the async dispatch queue unless tyreplus.sms.async.enabled=false.
+ * To plug in a real provider, pass its SmsService here instead of ConsoleSmsService.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tyreplus.sms.async.enabled", havingValue = "true", matchIfMissing = true)
+public class SmsConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public AsyncSmsService asyncSmsService(ConsoleSmsService gateway, MeterRegistry meterRegistry,
+            @Value("${tyreplus.sms.async.capacity:10000}") int capacity,
+            @Value("${tyreplus.sms.async.workers:4}") int workers,
+            @Value("${tyreplus.sms.async.batch-size:50}") int batchSize,
+            @Value("${tyreplus.sms.async.max-attempts:4}") int maxAttempts,
+            @Value("${tyreplus.sms.async.initial-backoff:PT0.5S}") Duration initialBackoff,
+            @Value("${tyreplus.sms.async.offer-timeout:PT0.1S}") Duration offerTimeout,
+            @Value("${tyreplus.sms.async.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        return new AsyncSmsService(gateway, new AsyncSmsService.Settings(capacity, workers, batchSize,
+                maxAttempts, initialBackoff, offerTimeout, shutdownTimeout), meterRegistry);
+    }
+}
@@ -0,0 +1,249 @@
+package com.tyreplus.dealer.infrastructure.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tyreplus.dealer.application.dto.LeadImportRow;
+import com.tyreplus.dealer.application.port.LeadImportSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming reader for partner lead feeds. Holds one record in memory at a time.
+ * A malformed record is returned as an error and reading continues with the next one.
+ * Fields and records are bounded, so a missing quote or line break cannot make the
+ * reader buffer the rest of the upload.
+ */
+public abstract class LeadImportReader implements LeadImportSource {
+
+    static final int MAX_FIELD_LENGTH = 1024;
+    static final int MAX_RECORD_LENGTH = 8192;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("csv")) {
+                return CSV;
+            }
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("ndjson")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported content type: " + contentType
+                    + ". Use text/csv or application/x-ndjson");
+        }
+    }
+
+    public static LeadImportReader open(Format format, Reader reader, ObjectMapper objectMapper) throws IOException {
+        return format == Format.CSV
+                ? new Csv(new BufferedReader(reader))
+                : new Ndjson(new BufferedReader(reader), objectMapper);
+    }
+
+    private static final class Ndjson extends LeadImportReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Record next() throws IOException {
+            StringBuilder text = new StringBuilder();
+            boolean tooLong;
+            do {
+                text.setLength(0);
+                tooLong = false;
+                int c = reader.read();
+                if (c == -1) {
+                    return null;
+                }
+                line++;
+                while (c != -1 && c != '\n') {
+                    if (text.length() < MAX_RECORD_LENGTH) {
+                        text.append((char) c);
+                    } else {
+                        // Drain the rest of the line without keeping it
+                        tooLong = true;
+                    }
+                    c = reader.read();
+                }
+            } while (!tooLong && text.toString().isBlank());
+            if (tooLong) {
+                return new Record(line, null, "Line is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            try {
+                return new Record(line, objectMapper.readValue(text.toString(), LeadImportRow.class), null);
+            } catch (IOException e) {
+                return new Record(line, null, "Malformed JSON");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row: quoted fields, doubled quotes and line breaks inside
+     * quotes are supported. Columns are matched to LeadImportRow fields by header name.
+     */
+    private static final class Csv extends LeadImportReader {
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long line;
+        // Set by readFields when the record it returns broke a size limit
+        private String oversized;
+
+        private Csv(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readFields();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            if (oversized != null) {
+                throw new IllegalArgumentException("CSV header: " + oversized);
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalize(header.get(i)), i);
+            }
+            for (String required : List.of("customername", "customerphone", "vehiclemodel", "leadcost")) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV header is missing column: " + required);
+                }
+            }
+        }
+
+        @Override
+        public Record next() throws IOException {
+            List<String> fields;
+            long start;
+            do {
+                start = line + 1;
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (oversized == null && fields.size() == 1 && fields.get(0).isBlank());
+
+            if (oversized != null) {
+                return new Record(start, null, oversized);
+            }
+            String cost = field(fields, "leadcost");
+            Integer leadCost = null;
+            if (cost != null) {
+                try {
+                    leadCost = Integer.valueOf(cost.trim());
+                } catch (NumberFormatException e) {
+                    return new Record(start, null, "lead_cost is not a number");
+                }
+            }
+            return new Record(start, new LeadImportRow(
+                    field(fields, "customername"),
+                    field(fields, "customerphone"),
+                    field(fields, "customeremail"),
+                    field(fields, "vehiclemodel"),
+                    field(fields, "vehicleyear"),
+                    leadCost), null);
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Reads one logical record, which may span several physical lines. A field over
+         * MAX_FIELD_LENGTH is truncated and the record flagged; a record over MAX_RECORD_LENGTH
+         * is skipped to the end of its line, unless it is inside quotes: then the record
+         * boundary cannot be found, most likely because of an unterminated quote, and the
+         * import fails.
+         */
+        private List<String> readFields() throws IOException {
+            oversized = null;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            line++;
+            long start = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+            while (c != -1) {
+                char ch = (char) c;
+                if (++length > MAX_RECORD_LENGTH) {
+                    if (quoted) {
+                        throw new IOException("CSV record starting at line " + start + " is longer than "
+                                + MAX_RECORD_LENGTH + " characters inside quotes; check for an unterminated quote");
+                    }
+                    oversized = "Record is longer than " + MAX_RECORD_LENGTH + " characters";
+                    while (c != -1 && c != '\n') {
+                        c = reader.read();
+                    }
+                    return fields;
+                }
+                if (quoted) {
+                    if (ch == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            append(field, '"', fields.size());
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (ch == '\n') {
+                            line++;
+                        }
+                        append(field, ch, fields.size());
+                    }
+                } else if (ch == '"') {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n') {
+                    break;
+                } else if (ch != '\r') {
+                    append(field, ch, fields.size());
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        private void append(StringBuilder field, char ch, int index) {
+            if (field.length() < MAX_FIELD_LENGTH) {
+                field.append(ch);
+            } else if (oversized == null) {
+                oversized = "Field " + (index + 1) + " is longer than " + MAX_FIELD_LENGTH + " characters";
+            }
+        }
+
+        private static String normalize(String header) {
+            return header.trim().replace("_", "").replace("\uFEFF", "").toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -1,37 +1,149 @@
 package com.tyreplus.dealer.infrastructure.payment;
 
-import com.razorpay.Order;
-import com.razorpay.RazorpayClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.razorpay.Utils;
+import com.tyreplus.dealer.application.exception.PaymentGatewayException;
+import com.tyreplus.dealer.application.service.PaymentGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Razorpay gateway over a single shared HTTP client.
+ *
+ * Orders are created through the Orders REST API on one java.net.http.HttpClient, so
+ * connections are pooled and kept alive across recharges, with configurable connect and
+ * read timeouts. (The SDK's client is rebuilt per RazorpayClient and pins 60s timeouts.)
+ * A circuit breaker refuses calls for a while after repeated failures instead of tying
+ * up request threads on a gateway that is down. Signatures are still checked with the SDK.
+ */
+@Slf4j
 @Component
-public class RazorpayAdapter {
+@ConditionalOnProperty(name = "tyreplus.payment.gateway", havingValue = "razorpay", matchIfMissing = true)
+public class RazorpayAdapter implements PaymentGateway {
+
+    private final String keyId;
+    private final String keySecret;
+    private final URI ordersUri;
+    private final String authorization;
+    private final Duration readTimeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer createOrderTimer;
+    private final Counter shortCircuited;
 
-    @Value("${payment.razorpay.key-id}")
-    private String keyId;
+    public RazorpayAdapter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${payment.razorpay.key-id}") String keyId,
+            @Value("${payment.razorpay.key-secret}") String keySecret,
+            @Value("${payment.razorpay.base-url:https://api.razorpay.com/v1}") String baseUrl,
+            @Value("${payment.razorpay.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${payment.razorpay.read-timeout:PT10S}") Duration readTimeout,
+            @Value("${payment.razorpay.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${payment.razorpay.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        this.keyId = keyId;
+        this.keySecret = keySecret;
+        this.ordersUri = URI.create(baseUrl + "/orders");
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((keyId + ":" + keySecret).getBytes(StandardCharsets.UTF_8));
+        this.readTimeout = readTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
 
-    @Value("${payment.razorpay.key-secret}")
-    private String keySecret;
+        this.createOrderTimer = Timer.builder("payment.gateway.requests")
+                .tag("gateway", "razorpay")
+                .tag("operation", "create_order")
+                .register(meterRegistry);
+        this.shortCircuited = Counter.builder("payment.gateway.short_circuited")
+                .tag("gateway", "razorpay")
+                .register(meterRegistry);
+        meterRegistry.gauge("payment.gateway.circuit.open", circuitBreaker,
+                breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1);
+    }
 
+    @Override
     public String getKeyId() {
         return keyId;
     }
 
-    public String createGatewayOrder(int amountInPaise) throws Exception {
-        RazorpayClient client = new RazorpayClient(keyId, keySecret);
+    @Override
+    public String createOrder(int amountInPaise) {
+        if (!circuitBreaker.tryAcquire()) {
+            shortCircuited.increment();
+            throw new PaymentGatewayException("Payment gateway is unavailable. Please try again shortly.");
+        }
+        return createOrderTimer.record(() -> send(amountInPaise));
+    }
 
-        JSONObject orderRequest = new JSONObject();
-        orderRequest.put("amount", amountInPaise); // Amount in paise (500 INR = 50000)
-        orderRequest.put("currency", "INR");
-        orderRequest.put("receipt", "txn_" + System.currentTimeMillis());
+    private String send(int amountInPaise) {
+        HttpResponse<String> response;
+        try {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "amount", amountInPaise, // Amount in paise (500 INR = 50000)
+                    "currency", "INR",
+                    "receipt", "txn_" + System.currentTimeMillis()));
+            HttpRequest request = HttpRequest.newBuilder(ordersUri)
+                    .timeout(readTimeout)
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // Includes connect and read timeouts
+            circuitBreaker.onFailure();
+            log.warn("Razorpay order creation failed: {}", e.toString());
+            throw new PaymentGatewayException("Failed to initiate payment with gateway", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new PaymentGatewayException("Failed to initiate payment with gateway", e);
+        } catch (RuntimeException e) {
+            // Anything else still has to end the call, or a half-open probe would never be released
+            circuitBreaker.onFailure();
+            log.warn("Razorpay order creation failed unexpectedly: {}", e.toString());
+            throw new PaymentGatewayException("Failed to initiate payment with gateway", e);
+        }
 
-        Order order = client.orders.create(orderRequest);
-        return order.get("id");
+        if (response.statusCode() >= 500) {
+            circuitBreaker.onFailure();
+            log.warn("Razorpay order creation returned {}", response.statusCode());
+            throw new PaymentGatewayException("Failed to initiate payment with gateway");
+        }
+        // A 4xx is our request's fault, not the gateway's, so it does not trip the breaker
+        circuitBreaker.onSuccess();
+        if (response.statusCode() >= 400) {
+            log.error("Razorpay rejected order creation ({}): {}", response.statusCode(), response.body());
+            throw new IllegalStateException("Payment gateway rejected the order");
+        }
+        try {
+            JsonNode order = objectMapper.readTree(response.body());
+            return order.path("id").asText();
+        } catch (IOException e) {
+            throw new PaymentGatewayException("Unreadable response from payment gateway", e);
+        }
     }
 
+    @Override
     public boolean verifySignature(String orderId, String paymentId, String signature) {
         try {
             JSONObject options = new JSONObject();
@@ -39,8 +151,6 @@ public class RazorpayAdapter {
             options.put("razorpay_payment_id", paymentId);
             options.put("razorpay_signature", signature);
 
-            // String payload = orderId + "|" + paymentId;
-            // return Utils.verifySignature(payload, signature, keySecret);
             return Utils.verifyPaymentSignature(options, keySecret);
         } catch (Exception e) {
             return false;
@@ -0,0 +1,74 @@
+package com.tyreplus.dealer.infrastructure.payment;
+
+import com.tyreplus.dealer.application.service.PaymentGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Local stand-in for the payment gateway (tyreplus.payment.gateway=stub), for development
+ * and load tests of the recharge flow. Orders are created in-process after an optional
+ * simulated latency; signatures use Razorpay's scheme, HMAC-SHA256 of "orderId|paymentId"
+ * keyed with payment.razorpay.key-secret, so test clients can sign with {@link #sign}.
+ */
+@Component
+@ConditionalOnProperty(name = "tyreplus.payment.gateway", havingValue = "stub")
+public class StubPaymentGateway implements PaymentGateway {
+
+    private final String keyId;
+    private final String keySecret;
+    private final Duration latency;
+
+    public StubPaymentGateway(@Value("${payment.razorpay.key-id}") String keyId,
+            @Value("${payment.razorpay.key-secret}") String keySecret,
+            @Value("${tyreplus.payment.stub.latency:PT0S}") Duration latency) {
+        this.keyId = keyId;
+        this.keySecret = keySecret;
+        this.latency = latency;
+    }
+
+    @Override
+    public String getKeyId() {
+        return keyId;
+    }
+
+    @Override
+    public String createOrder(int amountInPaise) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return "order_stub_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Override
+    public boolean verifySignature(String orderId, String paymentId, String signature) {
+        if (signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(orderId, paymentId, keySecret).getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sign(String orderId, String paymentId, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal((orderId + "|" + paymentId).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.repository.DailyPurchaseRepository;
+import com.tyreplus.dealer.domain.valueobject.DailyPurchases;
+import com.tyreplus.dealer.infrastructure.persistence.repository.DailyPurchaseJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing DailyPurchaseRepository using JPA.
+ */
+@Component
+public class DailyPurchaseRepositoryAdapter implements DailyPurchaseRepository {
+
+    private final DailyPurchaseJpaRepository jpaRepository;
+
+    public DailyPurchaseRepositoryAdapter(DailyPurchaseJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<DailyPurchases> findRange(UUID dealerId, LocalDate from, LocalDate to) {
+        return jpaRepository.findByDealerIdAndDayBetweenOrderByDayAsc(dealerId, from, to).stream()
+                .map(e -> new DailyPurchases(e.getDay(), e.getPurchases(), e.getCreditsSpent()))
+                .toList();
+    }
+}
@@ -2,32 +2,56 @@ package com.tyreplus.dealer.infrastructure.persistence.adapter;
 
 import com.tyreplus.dealer.domain.entity.Dealer;
 import com.tyreplus.dealer.domain.repository.DealerRepository;
+import com.tyreplus.dealer.domain.valueobject.DealerCredentials;
+import com.tyreplus.dealer.domain.valueobject.LoginIdentifier;
+import com.tyreplus.dealer.infrastructure.cache.DealerStatsCache;
 import com.tyreplus.dealer.infrastructure.persistence.entity.DealerJpaEntity;
 import com.tyreplus.dealer.infrastructure.persistence.mapper.DealerMapper;
 import com.tyreplus.dealer.infrastructure.persistence.repository.DealerJpaRepository;
+import com.tyreplus.dealer.infrastructure.persistence.repository.DealerJpaRepository.DealerCredentialsView;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Adapter implementing DealerRepository using JPA.
  */
+@Slf4j
 @Component
 public class DealerRepositoryAdapter implements DealerRepository {
 
     private final DealerJpaRepository jpaRepository;
     private final DealerMapper mapper;
+    private final DealerStatsCache dealerStatsCache;
 
-    public DealerRepositoryAdapter(DealerJpaRepository jpaRepository, DealerMapper mapper) {
+    public DealerRepositoryAdapter(DealerJpaRepository jpaRepository, DealerMapper mapper,
+            DealerStatsCache dealerStatsCache) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.dealerStatsCache = dealerStatsCache;
     }
 
     @Override
+    @Transactional
     public Dealer save(Dealer dealer) {
-        DealerJpaEntity jpaEntity = mapper.toJpaEntity(dealer);
-        DealerJpaEntity saved = jpaRepository.save(jpaEntity);
+        if (dealer.getId() != null) {
+            Optional<DealerJpaEntity> managed = jpaRepository.findById(dealer.getId());
+            if (managed.isPresent()) {
+                // Cached stats are bucketed by the dealer's local day, which the zone defines
+                if (!Objects.equals(managed.get().getTimeZone(), dealer.getTimeZone())) {
+                    dealerStatsCache.evict(dealer.getId());
+                }
+                // Dirty checking on the managed entity replaces merge's SELECT-then-UPDATE
+                mapper.updateJpaEntity(dealer, managed.get());
+                return mapper.toDomainEntity(managed.get());
+            }
+        }
+        DealerJpaEntity saved = jpaRepository.save(mapper.toJpaEntity(dealer));
         return mapper.toDomainEntity(saved);
     }
 
@@ -55,6 +79,34 @@ public class DealerRepositoryAdapter implements DealerRepository {
                 .map(mapper::toDomainEntity);
     }
 
+    @Override
+    public Optional<DealerCredentials> findCredentials(LoginIdentifier identifier) {
+        Optional<DealerCredentialsView> view = identifier.isEmail()
+                ? uniqueByEmail(jpaRepository.findCredentialsByEmailLower(identifier.value()))
+                : jpaRepository.findCredentialsByPhoneNumber(identifier.value());
+        return view.map(v -> new DealerCredentials(
+                v.getId(), v.getPhoneNumber(), v.getPasswordHash(), v.getVerified(), v.getBusinessName()));
+    }
+
+    /**
+     * Accounts created before emails were compared case-insensitively can share an email that
+     * differs only by case. Signing in to either would be a guess, so such an email matches
+     * nobody and those dealers sign in by phone.
+     */
+    private Optional<DealerCredentialsView> uniqueByEmail(List<DealerCredentialsView> matches) {
+        if (matches.size() > 1) {
+            log.warn("Email sign-in matches {} dealers; rejecting as ambiguous", matches.size());
+            return Optional.empty();
+        }
+        return matches.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public boolean updatePasswordHash(UUID dealerId, String passwordHash) {
+        return jpaRepository.updatePasswordHash(dealerId, passwordHash) > 0;
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaRepository.existsById(id);
@@ -0,0 +1,53 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.entity.Dealer;
+import com.tyreplus.dealer.domain.repository.DealerStatsRepository;
+import com.tyreplus.dealer.domain.valueobject.DealerStats;
+import com.tyreplus.dealer.infrastructure.cache.DealerStatsCache;
+import com.tyreplus.dealer.infrastructure.persistence.repository.DealerStatsJpaRepository;
+import com.tyreplus.dealer.infrastructure.persistence.repository.DealerStatsJpaRepository.DealerStatsView;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Adapter implementing DealerStatsRepository using JPA, fronted by DealerStatsCache.
+ */
+@Component
+public class DealerStatsRepositoryAdapter implements DealerStatsRepository {
+
+    private final DealerStatsJpaRepository jpaRepository;
+    private final DealerStatsCache cache;
+
+    public DealerStatsRepositoryAdapter(DealerStatsJpaRepository jpaRepository, DealerStatsCache cache) {
+        this.jpaRepository = jpaRepository;
+        this.cache = cache;
+    }
+
+    @Override
+    public DealerStats findByDealerId(UUID dealerId) {
+        return cache.get(dealerId, id -> jpaRepository.findViewByDealerId(id)
+                .map(this::toDomain)
+                .orElseGet(() -> DealerStats.empty(id, ZoneId.of(Dealer.DEFAULT_TIME_ZONE))));
+    }
+
+    @Override
+    @Transactional
+    public void recordConversion(UUID dealerId) {
+        jpaRepository.incrementConverted(dealerId, LocalDateTime.now());
+        cache.evict(dealerId);
+    }
+
+    private DealerStats toDomain(DealerStatsView view) {
+        return new DealerStats(
+                view.getDealerId(),
+                ZoneId.of(view.getTimeZone()),
+                view.getTotalPurchased(),
+                view.getConvertedCount(),
+                view.getPurchasesToday(),
+                view.getStatsDay());
+    }
+}
@@ -0,0 +1,137 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tyreplus.dealer.domain.entity.Otp;
+import com.tyreplus.dealer.domain.repository.OtpRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-node OTP store (tyreplus.otp.store=memory). Keeps only the latest OTP per mobile
+ * in a bounded Caffeine map; an entry lives until tyreplus.otp.retention past its expiry.
+ * Attempts and use are updated with compute on the entry, which is atomic per mobile.
+ * OTPs do not survive a restart.
+ */
+@Component
+@ConditionalOnProperty(name = "tyreplus.otp.store", havingValue = "memory")
+public class InMemoryOtpRepository implements OtpRepository {
+
+    private record Entry(UUID id, String code, LocalDateTime createdAt, LocalDateTime expiresAt,
+            boolean used, int attempts) {
+    }
+
+    private final Cache<String, Entry> otps;
+    private final Duration retention;
+
+    public InMemoryOtpRepository(MeterRegistry meterRegistry,
+            @Value("${tyreplus.otp.memory.max-size:100000}") long maxSize,
+            @Value("${tyreplus.otp.retention:PT1H}") Duration retention) {
+        this.retention = retention;
+        this.otps = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry value, long currentTime) {
+                        return lifetime(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return lifetime(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, otps, "otps");
+    }
+
+    @Override
+    public Otp save(Otp otp) {
+        if (otp.getId() == null) {
+            otp.setId(UUID.randomUUID());
+        }
+        otps.put(otp.getMobile(), new Entry(otp.getId(), otp.getCode(), otp.getCreatedAt(),
+                otp.getExpiresAt(), otp.isUsed(), otp.getAttempts()));
+        return otp;
+    }
+
+    @Override
+    public Optional<Otp> findByMobileAndCode(String mobile, String code) {
+        return findLatestByMobile(mobile).filter(otp -> otp.getCode().equals(code));
+    }
+
+    @Override
+    public Optional<Otp> findLatestByMobile(String mobile) {
+        return Optional.ofNullable(otps.getIfPresent(mobile)).map(entry -> toOtp(mobile, entry));
+    }
+
+    @Override
+    public int recordAttempt(Otp otp) {
+        Entry updated = otps.asMap().computeIfPresent(otp.getMobile(), (mobile, entry) ->
+                entry.id().equals(otp.getId())
+                        ? new Entry(entry.id(), entry.code(), entry.createdAt(), entry.expiresAt(),
+                                entry.used(), entry.attempts() + 1)
+                        : entry);
+        return updated != null && updated.id().equals(otp.getId()) ? updated.attempts() : 0;
+    }
+
+    @Override
+    public boolean markUsed(Otp otp) {
+        boolean[] marked = {false};
+        otps.asMap().computeIfPresent(otp.getMobile(), (mobile, entry) -> {
+            if (!entry.id().equals(otp.getId()) || entry.used()) {
+                return entry;
+            }
+            marked[0] = true;
+            return new Entry(entry.id(), entry.code(), entry.createdAt(), entry.expiresAt(),
+                    true, entry.attempts());
+        });
+        return marked[0];
+    }
+
+    @Override
+    public void deleteByMobile(String mobile) {
+        otps.invalidate(mobile);
+    }
+
+    @Override
+    public int deleteExpiredBefore(LocalDateTime cutoff, int limit) {
+        // Entries expire on their own; this only runs pending expirations
+        otps.cleanUp();
+        return 0;
+    }
+
+    private long lifetime(Entry entry) {
+        Duration left = Duration.between(LocalDateTime.now(), entry.expiresAt().plus(retention));
+        return Math.max(0, left.toNanos());
+    }
+
+    private static Otp toOtp(String mobile, Entry entry) {
+        return Otp.builder()
+                .id(entry.id())
+                .mobile(mobile)
+                .code(entry.code())
+                .createdAt(entry.createdAt())
+                .expiresAt(entry.expiresAt())
+                .used(entry.used())
+                .attempts(entry.attempts())
+                .build();
+    }
+}
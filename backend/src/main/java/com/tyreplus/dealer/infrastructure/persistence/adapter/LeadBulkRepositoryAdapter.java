@@ -0,0 +1,132 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.repository.LeadBulkRepository;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEvent;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventPublisher;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Adapter implementing LeadBulkRepository on the transaction's JDBC connection.
+ *
+ * copy (default) streams the rows through Postgres COPY, a single round trip per batch;
+ * batch uses a batched INSERT, which the driver rewrites into multi-row statements
+ * (reWriteBatchedInserts). Both bypass Hibernate, so nothing is held in the persistence context.
+ */
+@Component
+public class LeadBulkRepositoryAdapter implements LeadBulkRepository {
+
+    private static final String COPY_SQL = "COPY leads (id, customer_name, customer_phone, customer_email, "
+            + "vehicle_model, vehicle_year, status, lead_cost, created_at) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_SQL = "INSERT INTO leads (id, customer_name, customer_phone, customer_email, "
+            + "vehicle_model, vehicle_year, status, lead_cost, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, CAST(? AS lead_status), ?, ?)";
+
+    // Above this many rows a batch is announced with one resync instead of one event per lead,
+    // which would overflow every SSE client's queue and cost a pg_notify per row
+    private static final int MAX_PER_LEAD_EVENTS = 10;
+
+    private final DataSource dataSource;
+    private final LeadEventPublisher leadEventPublisher;
+    private final boolean useCopy;
+
+    public LeadBulkRepositoryAdapter(DataSource dataSource, LeadEventPublisher leadEventPublisher,
+            @Value("${tyreplus.ingest.write-mode:copy}") String writeMode) {
+        this.dataSource = dataSource;
+        this.leadEventPublisher = leadEventPublisher;
+        this.useCopy = !"batch".equalsIgnoreCase(writeMode);
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(List<Lead> leads) {
+        if (leads.isEmpty()) {
+            return 0;
+        }
+        // Bound to the surrounding JPA transaction, so commit/rollback covers these rows
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            int inserted = useCopy ? copy(connection, leads) : batch(connection, leads);
+            if (leads.size() <= MAX_PER_LEAD_EVENTS) {
+                leads.forEach(lead -> leadEventPublisher.publish(LeadEvent.created(lead)));
+            } else {
+                leadEventPublisher.publish(LeadEvent.resync());
+            }
+            return inserted;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Bulk lead insert failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private int copy(Connection connection, List<Lead> leads) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder row = new StringBuilder(256);
+            for (Lead lead : leads) {
+                row.setLength(0);
+                row.append(lead.getId()).append(',');
+                appendCsv(row, lead.getCustomerName()).append(',');
+                appendCsv(row, lead.getCustomerPhone()).append(',');
+                appendCsv(row, lead.getCustomerEmail()).append(',');
+                appendCsv(row, lead.getVehicleModel()).append(',');
+                appendCsv(row, lead.getVehicleYear()).append(',');
+                row.append(lead.getStatus().name()).append(',');
+                row.append(lead.getLeadCost()).append(',');
+                row.append(lead.getCreatedAt()).append('\n');
+                byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            return (int) copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private int batch(Connection connection, List<Lead> leads) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (Lead lead : leads) {
+                statement.setObject(1, lead.getId());
+                statement.setString(2, lead.getCustomerName());
+                statement.setString(3, lead.getCustomerPhone());
+                statement.setString(4, lead.getCustomerEmail());
+                statement.setString(5, lead.getVehicleModel());
+                statement.setString(6, lead.getVehicleYear());
+                statement.setString(7, lead.getStatus().name());
+                statement.setInt(8, lead.getLeadCost());
+                statement.setTimestamp(9, Timestamp.valueOf(lead.getCreatedAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            return leads.size();
+        }
+    }
+
+    /**
+     * Quotes every non-null value; an unquoted empty field is NULL in COPY csv.
+     */
+    private static StringBuilder appendCsv(StringBuilder row, String value) {
+        if (value == null) {
+            return row;
+        }
+        return row.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,64 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.repository.LeadExpiryRepository;
+import com.tyreplus.dealer.infrastructure.cache.LeadCache;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEvent;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventPublisher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing LeadExpiryRepository with a single chunked UPDATE.
+ *
+ * The chunk is picked through idx_leads_feed with FOR UPDATE SKIP LOCKED, the same way
+ * the purchase statement claims a lead, so the sweep never waits on a buyer and a buyer
+ * never waits on the sweep; a lead skipped here is picked up by the next run.
+ */
+@Component
+public class LeadExpiryRepositoryAdapter implements LeadExpiryRepository {
+
+    private static final String EXPIRE_SQL = """
+            UPDATE leads l
+            SET status = 'EXPIRED'
+            WHERE l.id IN (SELECT id FROM leads
+                           WHERE status = 'NEW' AND purchased_by_dealer_id IS NULL AND created_at < :cutoff
+                           ORDER BY created_at
+                           LIMIT :limit
+                           FOR UPDATE SKIP LOCKED)
+            RETURNING l.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LeadCache leadCache;
+    private final LeadEventPublisher leadEventPublisher;
+
+    public LeadExpiryRepositoryAdapter(LeadCache leadCache, LeadEventPublisher leadEventPublisher) {
+        this.leadCache = leadCache;
+        this.leadEventPublisher = leadEventPublisher;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<UUID> expireCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<UUID> expired = entityManager.createNativeQuery(EXPIRE_SQL)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        leadCache.evictAll(expired);
+        // One tombstone for the whole chunk so connected feeds drop the leads; sent once it commits
+        if (!expired.isEmpty()) {
+            leadEventPublisher.publish(LeadEvent.expired(expired));
+        }
+        return expired;
+    }
+}
@@ -0,0 +1,179 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.repository.LeadPurchaseRepository;
+import com.tyreplus.dealer.infrastructure.cache.DealerStatsCache;
+import com.tyreplus.dealer.infrastructure.cache.LeadCache;
+import com.tyreplus.dealer.infrastructure.persistence.mapper.LeadMapper;
+import com.tyreplus.dealer.infrastructure.persistence.repository.LeadJpaRepository;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEvent;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventPublisher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Adapter implementing LeadPurchaseRepository with a single native statement.
+ *
+ * The lead is claimed with a conditional UPDATE whose target row is picked with
+ * FOR UPDATE SKIP LOCKED, so a competing buyer gets "unavailable" immediately instead of
+ * queueing on the row lock and holding a pooled connection. The wallet debit is guarded by
+ * purchased + bonus >= cost and the debit transaction row is inserted in the same statement,
+ * as are the dealer_stats and daily rollup increments, so the whole purchase is one round trip.
+ */
+@Component
+public class LeadPurchaseRepositoryAdapter implements LeadPurchaseRepository {
+
+    // Credit split mirrors Wallet.deduct: purchased credits first, remainder from bonus.
+    private static final String PURCHASE_SQL = """
+            WITH claimed AS (
+                UPDATE leads l
+                SET purchased_by_dealer_id = :dealerId, status = 'BOUGHT', purchased_at = :now
+                WHERE l.id = (SELECT id FROM leads
+                              WHERE id = :leadId AND purchased_by_dealer_id IS NULL AND status = 'NEW'
+                              FOR UPDATE SKIP LOCKED)
+                RETURNING l.*
+            ),
+            wallet AS (
+                SELECT w.id, w.purchased_credits, w.bonus_credits FROM wallets w
+                WHERE w.dealer_id = :dealerId AND EXISTS (SELECT 1 FROM claimed)
+                FOR UPDATE
+            ),
+            debited AS (
+                UPDATE wallets w
+                SET purchased_credits = o.purchased_credits - LEAST(o.purchased_credits, c.lead_cost),
+                    bonus_credits = o.bonus_credits - (c.lead_cost - LEAST(o.purchased_credits, c.lead_cost)),
+                    version = w.version + 1
+                FROM claimed c, wallet o
+                WHERE w.id = o.id AND o.purchased_credits + o.bonus_credits >= c.lead_cost
+                RETURNING w.id AS wallet_id,
+                          LEAST(o.purchased_credits, c.lead_cost) AS used_purchased,
+                          c.lead_cost - LEAST(o.purchased_credits, c.lead_cost) AS used_bonus
+            ),
+            recorded AS (
+                INSERT INTO transactions (id, wallet_id, dealer_id, type, credits, purchased_credits,
+                                          bonus_credits, description, payment_id, created_at)
+                SELECT :transactionId, d.wallet_id, :dealerId, 'DEBIT', c.lead_cost, d.used_purchased,
+                       d.used_bonus, 'Lead Purchase: ' || c.customer_name || ' - ' || c.vehicle_model, NULL, :now
+                FROM claimed c, debited d
+                RETURNING id
+            ),
+            local_day AS (
+                -- The purchase instant on the dealer's own calendar
+                SELECT CAST(CAST(:purchasedAt AS timestamptz) AT TIME ZONE d.time_zone AS date) AS day
+                FROM dealers d WHERE d.id = :dealerId
+            ),
+            counted AS (
+                INSERT INTO dealer_stats (dealer_id, total_purchased, converted_count, purchases_today,
+                                          stats_day, updated_at)
+                SELECT :dealerId, 1, 0, 1, ld.day, :now FROM recorded, local_day ld
+                ON CONFLICT (dealer_id) DO UPDATE
+                SET total_purchased = dealer_stats.total_purchased + 1,
+                    purchases_today = CASE WHEN dealer_stats.stats_day = EXCLUDED.stats_day
+                                           THEN dealer_stats.purchases_today + 1 ELSE 1 END,
+                    stats_day = EXCLUDED.stats_day,
+                    updated_at = EXCLUDED.updated_at
+            ),
+            rolled AS (
+                INSERT INTO dealer_daily_purchases (dealer_id, day, purchases, credits_spent)
+                SELECT :dealerId, ld.day, 1, c.lead_cost FROM recorded, claimed c, local_day ld
+                ON CONFLICT (dealer_id, day) DO UPDATE
+                SET purchases = dealer_daily_purchases.purchases + 1,
+                    credits_spent = dealer_daily_purchases.credits_spent + EXCLUDED.credits_spent
+            )
+            SELECT c.id, c.customer_name, c.customer_phone, c.customer_email, c.vehicle_model, c.vehicle_year,
+                   CAST(c.status AS varchar), c.lead_cost, c.purchased_by_dealer_id, c.created_at, c.purchased_at,
+                   (SELECT COUNT(*) FROM wallet) AS wallets,
+                   (SELECT COUNT(*) FROM recorded) AS recorded
+            FROM (SELECT 1) one
+            LEFT JOIN claimed c ON TRUE
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LeadJpaRepository leadJpaRepository;
+    private final LeadMapper mapper;
+    private final LeadCache leadCache;
+    private final DealerStatsCache dealerStatsCache;
+    private final LeadEventPublisher leadEventPublisher;
+
+    public LeadPurchaseRepositoryAdapter(LeadJpaRepository leadJpaRepository, LeadMapper mapper,
+            LeadCache leadCache, DealerStatsCache dealerStatsCache, LeadEventPublisher leadEventPublisher) {
+        this.leadJpaRepository = leadJpaRepository;
+        this.mapper = mapper;
+        this.leadCache = leadCache;
+        this.dealerStatsCache = dealerStatsCache;
+        this.leadEventPublisher = leadEventPublisher;
+    }
+
+    @Override
+    public PurchaseResult purchase(UUID leadId, UUID dealerId) {
+        LocalDateTime now = LocalDateTime.now();
+        Object[] row = (Object[]) entityManager.createNativeQuery(PURCHASE_SQL)
+                .setParameter("leadId", leadId)
+                .setParameter("dealerId", dealerId)
+                .setParameter("transactionId", UUID.randomUUID())
+                .setParameter("now", now)
+                .setParameter("purchasedAt", now.atZone(ZoneId.systemDefault()).toOffsetDateTime())
+                .getSingleResult();
+
+        if (row[0] == null) {
+            return classifyMissedClaim(leadId, dealerId);
+        }
+
+        leadCache.evict(leadId);
+        dealerStatsCache.evict(dealerId);
+        if (((Number) row[11]).longValue() == 0) {
+            return new PurchaseResult(Outcome.WALLET_NOT_FOUND, null);
+        }
+        if (((Number) row[12]).longValue() == 0) {
+            return new PurchaseResult(Outcome.INSUFFICIENT_FUNDS, null);
+        }
+        // Tombstone for other dealers' live feeds; dropped if the transaction rolls back
+        leadEventPublisher.publish(LeadEvent.sold(leadId));
+        return new PurchaseResult(Outcome.PURCHASED, toLead(row));
+    }
+
+    /**
+     * Only the losing path pays for this extra read. A row locked by an in-flight buyer
+     * still reads as unpurchased here, which is reported as unavailable as well.
+     */
+    private PurchaseResult classifyMissedClaim(UUID leadId, UUID dealerId) {
+        return leadJpaRepository.findById(leadId)
+                .map(mapper::toDomainEntity)
+                .map(lead -> dealerId.equals(lead.getPurchasedByDealerId())
+                        ? new PurchaseResult(Outcome.ALREADY_OWNED, lead)
+                        : new PurchaseResult(Outcome.LEAD_UNAVAILABLE, null))
+                .orElseGet(() -> new PurchaseResult(Outcome.LEAD_NOT_FOUND, null));
+    }
+
+    private Lead toLead(Object[] row) {
+        return Lead.builder()
+                .id((UUID) row[0])
+                .customerName((String) row[1])
+                .customerPhone((String) row[2])
+                .customerEmail((String) row[3])
+                .vehicleModel((String) row[4])
+                .vehicleYear((String) row[5])
+                .status(LeadStatus.valueOf((String) row[6]))
+                .leadCost(((Number) row[7]).intValue())
+                .purchasedByDealerId((UUID) row[8])
+                .createdAt(toLocalDateTime(row[9]))
+                .purchasedAt(toLocalDateTime(row[10]))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
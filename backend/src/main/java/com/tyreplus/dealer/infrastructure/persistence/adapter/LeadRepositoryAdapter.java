@@ -3,18 +3,19 @@ package com.tyreplus.dealer.infrastructure.persistence.adapter;
 import com.tyreplus.dealer.domain.entity.Lead;
 import com.tyreplus.dealer.domain.entity.LeadStatus;
 import com.tyreplus.dealer.domain.repository.LeadRepository;
+import com.tyreplus.dealer.infrastructure.cache.LeadCache;
 import com.tyreplus.dealer.infrastructure.persistence.entity.LeadJpaEntity;
 import com.tyreplus.dealer.infrastructure.persistence.mapper.LeadMapper;
 import com.tyreplus.dealer.infrastructure.persistence.repository.LeadJpaRepository;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEvent;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-/*
-import org.springframework.data.redis.core.RedisTemplate;
-import java.time.Duration;
-*/
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -29,48 +30,37 @@ public class LeadRepositoryAdapter implements LeadRepository {
 
     private final LeadJpaRepository jpaRepository;
     private final LeadMapper mapper;
-    // private final RedisTemplate<String, Lead> redisTemplate;
+    private final LeadCache leadCache;
+    private final LeadEventPublisher leadEventPublisher;
 
-    private static final String CACHE_KEY_PREFIX = "LEAD_";
-
-    public LeadRepositoryAdapter(LeadJpaRepository jpaRepository, LeadMapper mapper // ,
-    /* RedisTemplate<String, Lead> redisTemplate */) {
+    public LeadRepositoryAdapter(LeadJpaRepository jpaRepository, LeadMapper mapper, LeadCache leadCache,
+            LeadEventPublisher leadEventPublisher) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
-        // this.redisTemplate = redisTemplate;
+        this.leadCache = leadCache;
+        this.leadEventPublisher = leadEventPublisher;
     }
 
     @Override
+    @Transactional
     public Lead save(Lead lead) {
-        LeadJpaEntity jpaEntity = mapper.toJpaEntity(lead);
-        LeadJpaEntity saved = jpaRepository.save(jpaEntity);
+        LeadJpaEntity saved = apply(lead);
         Lead savedLead = mapper.toDomainEntity(saved);
-        // 4. Cache Invalidation: Remove old data so next read gets fresh DB values
-        // redisTemplate.delete(CACHE_KEY_PREFIX + savedLead.getId());
+        // Invalidate both tiers so the next read gets fresh DB values
+        leadCache.evict(savedLead.getId());
         return savedLead;
     }
 
     @Override
     public Optional<Lead> findById(UUID id) {
-
-        String key = CACHE_KEY_PREFIX + id.toString();
-
-        // 1. Try to fetch from Redis Cache
-        /*
-         * Lead cached = redisTemplate.opsForValue().get(key);
-         * if (cached != null) {
-         * return Optional.of(cached);
-         * }
-         */
-
-        // 2. Cache Miss - Fetch from PostgreSQL
-        return jpaRepository.findById(id).map(entity -> {
-            Lead domainLead = mapper.toDomainEntity(entity);
-
-            // 3. Prime the Cache for 5 minutes
-            // redisTemplate.opsForValue().set(key, domainLead , Duration.ofMinutes(5));
-            return domainLead;
-        });
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // A read that may be saved back loads the managed entity, so save() finds it in the
+            // persistence context instead of re-reading the row behind a cached copy
+            return jpaRepository.findById(id).map(mapper::toDomainEntity);
+        }
+        // Read-through: local tier, then Redis (if enabled), then PostgreSQL
+        return leadCache.get(id, key -> jpaRepository.findById(key).map(mapper::toDomainEntity));
     }
 
     @Override
@@ -96,7 +86,7 @@ public class LeadRepositoryAdapter implements LeadRepository {
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
-        // redisTemplate.delete(CACHE_KEY_PREFIX + id);
+        leadCache.evict(id);
     }
 
     @Override
@@ -131,16 +121,21 @@ public class LeadRepositoryAdapter implements LeadRepository {
     }
 
     @Override
+    @Transactional
+    public boolean addSkip(UUID leadId, UUID dealerId) {
+        if (jpaRepository.insertSkip(leadId, dealerId) == 0 && !jpaRepository.existsById(leadId)) {
+            return false;
+        }
+        // The cached copy carries the skip set, so drop it rather than patch it
+        leadCache.evict(leadId);
+        return true;
+    }
+
+    @Override
+    @Transactional
     public void saveAll(List<Lead> leads) {
-        List<LeadJpaEntity> entities = leads.stream()
-                .map(mapper::toJpaEntity)
-                .toList();
-        jpaRepository.saveAll(entities);
-        /*
-         * leads.forEach(lead ->
-         * redisTemplate.delete(CACHE_KEY_PREFIX + lead.getId())
-         * );
-         */
+        leads.forEach(this::apply);
+        leadCache.evictAll(leads.stream().map(Lead::getId).toList());
     }
 
     @Override
@@ -155,6 +150,33 @@ public class LeadRepositoryAdapter implements LeadRepository {
 
     @Override
     public Page<Lead> findLeadsWithFilters(LeadStatus status, UUID dealerId, String sort, Pageable pageable) {
-        return jpaRepository.findLeadsWithFilters(status, dealerId, sort, pageable).map(mapper::toDomainEntity);
+        return jpaRepository.findLeadsWithFilters(status != null ? status.name() : null, dealerId, sort, pageable)
+                .map(mapper::toDomainEntity);
+    }
+
+    @Override
+    public List<Lead> findFeedPage(LeadStatus status, UUID dealerId, boolean ascending,
+                                   LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        return jpaRepository.findFeedPage(status, dealerId, ascending, afterCreatedAt, afterId, limit)
+                .stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes through the managed entity when the lead already exists, so Hibernate
+     * flushes a dirty-checked UPDATE instead of merging a detached copy (extra SELECT).
+     */
+    private LeadJpaEntity apply(Lead lead) {
+        if (lead.getId() != null) {
+            Optional<LeadJpaEntity> managed = jpaRepository.findById(lead.getId());
+            if (managed.isPresent()) {
+                mapper.updateJpaEntity(lead, managed.get());
+                return managed.get();
+            }
+        }
+        LeadJpaEntity created = jpaRepository.save(mapper.toJpaEntity(lead));
+        leadEventPublisher.publish(LeadEvent.created(mapper.toDomainEntity(created)));
+        return created;
     }
 }
@@ -5,19 +5,20 @@ import com.tyreplus.dealer.domain.repository.OtpRepository;
 import com.tyreplus.dealer.infrastructure.persistence.entity.OtpJpaEntity;
 import com.tyreplus.dealer.infrastructure.persistence.mapper.OtpMapper;
 import com.tyreplus.dealer.infrastructure.persistence.repository.OtpJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
- * Adapter implementing OtpRepository using JPA.
+ * Adapter implementing OtpRepository using JPA. This is the default store
+ * (tyreplus.otp.store=jdbc); attempts and use are counted with conditional UPDATEs.
  */
 @Component
+@ConditionalOnProperty(name = "tyreplus.otp.store", havingValue = "jdbc", matchIfMissing = true)
 public class OtpRepositoryAdapter implements OtpRepository {
 
     private final OtpJpaRepository jpaRepository;
@@ -42,15 +43,22 @@ public class OtpRepositoryAdapter implements OtpRepository {
     }
 
     @Override
-    public List<Otp> findByMobile(String mobile) {
-        return jpaRepository.findByMobileOrderByCreatedAtDesc(mobile).stream()
-                .map(mapper::toDomainEntity)
-                .collect(Collectors.toList());
+    public Optional<Otp> findLatestByMobile(String mobile) {
+        return jpaRepository.findFirstByMobileOrderByCreatedAtDesc(mobile)
+                .map(mapper::toDomainEntity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recordAttempt(Otp otp) {
+        // Own transaction: the InvalidOtpException that usually follows must not undo the count
+        return jpaRepository.incrementAttempts(otp.getId()).orElse(0);
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    @Transactional
+    public boolean markUsed(Otp otp) {
+        return jpaRepository.markUsed(otp.getId()) == 1;
     }
 
     @Override
@@ -61,8 +69,9 @@ public class OtpRepositoryAdapter implements OtpRepository {
     }
 
     @Override
-    public void deleteExpiredOtp() {
-        jpaRepository.deleteExpiredOtp(LocalDateTime.now());
+    @Transactional
+    public int deleteExpiredBefore(LocalDateTime cutoff, int limit) {
+        return jpaRepository.deleteExpiredBefore(cutoff, limit);
     }
 }
 
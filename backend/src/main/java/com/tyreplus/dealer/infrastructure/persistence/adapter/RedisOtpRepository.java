@@ -0,0 +1,123 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.entity.Otp;
+import com.tyreplus.dealer.domain.repository.OtpRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Clustered OTP store (tyreplus.otp.store=redis). The latest OTP per mobile is a Redis hash
+ * that expires tyreplus.otp.retention after the OTP does. Writes are Lua scripts, so saving,
+ * counting an attempt and marking used are each atomic across nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "tyreplus.otp.store", havingValue = "redis")
+public class RedisOtpRepository implements OtpRepository {
+
+    private static final String KEY_PREFIX = "OTP_";
+
+    private static final RedisScript<Long> SAVE = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'id', ARGV[1], 'code', ARGV[2], 'createdAt', ARGV[3],
+                       'expiresAt', ARGV[4], 'used', ARGV[5], 'attempts', ARGV[6])
+            redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            return 1
+            """, Long.class);
+
+    // Returns 0 when the hash is gone or holds a newer OTP
+    private static final RedisScript<Long> RECORD_ATTEMPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'id') ~= ARGV[1] then return 0 end
+            return redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+            """, Long.class);
+
+    private static final RedisScript<Long> MARK_USED = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'id') ~= ARGV[1] then return 0 end
+            if redis.call('HGET', KEYS[1], 'used') == '1' then return 0 end
+            redis.call('HSET', KEYS[1], 'used', '1')
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+
+    public RedisOtpRepository(StringRedisTemplate redisTemplate,
+            @Value("${tyreplus.otp.retention:PT1H}") Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    @Override
+    public Otp save(Otp otp) {
+        if (otp.getId() == null) {
+            otp.setId(UUID.randomUUID());
+        }
+        long ttlMillis = Math.max(1, Duration.between(LocalDateTime.now(),
+                otp.getExpiresAt().plus(retention)).toMillis());
+        redisTemplate.execute(SAVE, List.of(key(otp.getMobile())),
+                otp.getId().toString(), otp.getCode(), otp.getCreatedAt().toString(),
+                otp.getExpiresAt().toString(), otp.isUsed() ? "1" : "0",
+                Integer.toString(otp.getAttempts()), Long.toString(ttlMillis));
+        return otp;
+    }
+
+    @Override
+    public Optional<Otp> findByMobileAndCode(String mobile, String code) {
+        return findLatestByMobile(mobile).filter(otp -> otp.getCode().equals(code));
+    }
+
+    @Override
+    public Optional<Otp> findLatestByMobile(String mobile) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(mobile));
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Otp.builder()
+                .id(UUID.fromString((String) hash.get("id")))
+                .mobile(mobile)
+                .code((String) hash.get("code"))
+                .createdAt(LocalDateTime.parse((String) hash.get("createdAt")))
+                .expiresAt(LocalDateTime.parse((String) hash.get("expiresAt")))
+                .used("1".equals(hash.get("used")))
+                .attempts(Integer.parseInt((String) hash.get("attempts")))
+                .build());
+    }
+
+    @Override
+    public int recordAttempt(Otp otp) {
+        Long attempts = redisTemplate.execute(RECORD_ATTEMPT, List.of(key(otp.getMobile())),
+                otp.getId().toString());
+        return attempts == null ? 0 : attempts.intValue();
+    }
+
+    @Override
+    public boolean markUsed(Otp otp) {
+        Long marked = redisTemplate.execute(MARK_USED, List.of(key(otp.getMobile())),
+                otp.getId().toString());
+        return marked != null && marked == 1;
+    }
+
+    @Override
+    public void deleteByMobile(String mobile) {
+        redisTemplate.delete(key(mobile));
+    }
+
+    @Override
+    public int deleteExpiredBefore(LocalDateTime cutoff, int limit) {
+        // Keys carry their own TTL
+        return 0;
+    }
+
+    private static String key(String mobile) {
+        return KEY_PREFIX + mobile;
+    }
+}
@@ -7,7 +7,9 @@ import com.tyreplus.dealer.infrastructure.persistence.mapper.TransactionMapper;
 import com.tyreplus.dealer.infrastructure.persistence.repository.TransactionJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,8 +35,12 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByDealerId(UUID dealerId) {
-        return jpaRepository.findByDealerIdOrderByCreatedAtDesc(dealerId).stream()
+    public List<Transaction> findPageByDealerId(UUID dealerId, LocalDateTime beforeCreatedAt, UUID beforeId,
+            int limit) {
+        List<TransactionJpaEntity> page = beforeCreatedAt == null
+                ? jpaRepository.findFirstPageByDealerId(dealerId, limit)
+                : jpaRepository.findPageByDealerIdBefore(dealerId, beforeCreatedAt, beforeId, limit);
+        return page.stream()
                 .map(mapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
@@ -46,6 +52,11 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Transaction> findByPaymentId(String paymentId) {
+        return jpaRepository.findFirstByPaymentId(paymentId).map(mapper::toDomainEntity);
+    }
+
     @Override
     public boolean existsByPaymentId(String paymentId) {
         return jpaRepository.existsByPaymentId(paymentId);
@@ -2,31 +2,69 @@ package com.tyreplus.dealer.infrastructure.persistence.adapter;
 
 import com.tyreplus.dealer.domain.entity.Tyre;
 import com.tyreplus.dealer.domain.repository.TyreRepository;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
+import com.tyreplus.dealer.domain.valueobject.TyreSize;
+import com.tyreplus.dealer.infrastructure.cache.TyreCatalog;
 import com.tyreplus.dealer.infrastructure.persistence.entity.TyreJpaEntity;
 import com.tyreplus.dealer.infrastructure.persistence.repository.SpringDataTyreRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+/**
+ * Serves tyre search and listings from an in-memory {@link TyreCatalog}. The table is read in
+ * full once the app is ready and again every {@code tyreplus.tyres.catalog.refresh-interval};
+ * a reload that finds the same content version keeps the current snapshot, otherwise it builds
+ * a complete new one and swaps it in with a single volatile write.
+ * Features are split once per reload instead of once per row per request. Search and listings
+ * can therefore lag a catalog edit by up to one refresh interval.
+ * Lookups by id, size fitment and size range go to the database, so they are always current;
+ * size range results are paged.
+ */
+@Slf4j
 @Component
 public class TyreRepositoryAdapter implements TyreRepository {
 
     private final SpringDataTyreRepository repository;
+    private final Counter reloads;
+    private final Counter reloadFailures;
+    private volatile TyreCatalog catalog;
 
-    public TyreRepositoryAdapter(SpringDataTyreRepository repository) {
+    public TyreRepositoryAdapter(SpringDataTyreRepository repository, MeterRegistry meterRegistry) {
         this.repository = repository;
+        this.reloads = Counter.builder("tyres.catalog.reloads")
+                .tag("result", "changed")
+                .register(meterRegistry);
+        this.reloadFailures = Counter.builder("tyres.catalog.reloads")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("tyres.catalog.size", this, adapter -> {
+                    TyreCatalog current = adapter.catalog;
+                    return current != null ? current.size() : 0;
+                })
+                .register(meterRegistry);
     }
 
     @Override
-    public List<Tyre> search(String brand, String size, String pattern) {
-        return repository.search(brand, size, pattern).stream()
-                .map(this::toDomain)
-                .toList();
+    public TyreSearchResult search(TyreSearchCriteria criteria) {
+        return catalog().search(criteria);
+    }
+
+    @Override
+    public List<Tyre> findByExactFilters(String brand, String size, String pattern) {
+        return catalog().list(brand, size, pattern);
     }
 
     @Override
@@ -36,22 +74,90 @@ public class TyreRepositoryAdapter implements TyreRepository {
 
     @Override
     public List<String> getAllBrands() {
-        return repository.findDistinctBrands();
+        return catalog().brands();
     }
 
     @Override
     public List<String> getSizesByBrand(String brand) {
-        return repository.findDistinctSizesByBrand(brand);
+        return catalog().sizesByBrand(brand);
     }
 
     @Override
     public List<String> getPatternsByBrandAndSize(String brand, String size) {
-        return repository.findDistinctPatternsByBrandAndSize(brand, size);
+        return catalog().patternsByBrandAndSize(brand, size);
+    }
+
+    @Override
+    public List<Tyre> findFitting(TyreSize size) {
+        return repository.findFitting(size.width(), size.aspectRatio(), size.rimDiameter()).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Tyre> findBySizeRange(Integer rimDiameter, Integer minWidth, Integer maxWidth,
+            int page, int pageSize) {
+        int from = minWidth != null ? minWidth : 0;
+        int to = maxWidth != null ? maxWidth : Integer.MAX_VALUE;
+        // A List, not a Page: a slice needs no COUNT(*) over the range
+        PageRequest pageable = PageRequest.of(page, pageSize);
+        // Separate statements rather than ":rim IS NULL OR ...", so each gets its own index plan
+        List<TyreJpaEntity> rows = rimDiameter != null
+                ? repository.findByRimAndWidthRange(rimDiameter, from, to, pageable)
+                : repository.findByWidthRange(from, to, pageable);
+        return rows.stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tyreplus.tyres.catalog.refresh-interval:PT5M}",
+            initialDelayString = "${tyreplus.tyres.catalog.refresh-interval:PT5M}")
+    public void reload() {
+        try {
+            List<Tyre> tyres = loadTyres();
+            TyreCatalog previous = catalog;
+            // Unchanged content keeps the current snapshot and its indexes
+            if (previous == null || !previous.version().equals(TyreCatalog.version(tyres))) {
+                TyreCatalog loaded = TyreCatalog.of(tyres);
+                catalog = loaded;
+                reloads.increment();
+                log.info("Tyre catalog loaded: {} tyres, version {}", loaded.size(), loaded.version());
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot
+            reloadFailures.increment();
+            log.warn("Tyre catalog reload failed: {}", e.getMessage());
+        }
+    }
+
+    // Requests can arrive before ApplicationReadyEvent; the first one loads the catalog itself
+    private TyreCatalog catalog() {
+        TyreCatalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (catalog == null) {
+                catalog = load();
+            }
+            return catalog;
+        }
+    }
+
+    private TyreCatalog load() {
+        return TyreCatalog.of(loadTyres());
+    }
+
+    private List<Tyre> loadTyres() {
+        return repository.findAll().stream()
+                .map(this::toDomain)
+                .toList();
     }
 
     private Tyre toDomain(TyreJpaEntity entity) {
         List<String> featureList = entity.getFeatures() != null
-                ? Arrays.asList(entity.getFeatures().split(","))
+                ? List.of(entity.getFeatures().split(","))
                 : Collections.emptyList();
 
         return Tyre.builder()
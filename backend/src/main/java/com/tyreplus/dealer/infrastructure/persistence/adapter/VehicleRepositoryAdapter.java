@@ -1,36 +1,119 @@
 package com.tyreplus.dealer.infrastructure.persistence.adapter;
 
+import com.tyreplus.dealer.domain.entity.Vehicle;
 import com.tyreplus.dealer.domain.repository.VehicleRepository;
+import com.tyreplus.dealer.infrastructure.cache.VehicleCatalog;
 import com.tyreplus.dealer.infrastructure.persistence.repository.SpringDataVehicleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+
 import java.util.List;
 
+/**
+ * Serves the vehicle picker cascade from an in-memory {@link VehicleCatalog} instead of a
+ * SELECT DISTINCT per call. The catalog is loaded once the app is ready and reloaded on
+ * {@code tyreplus.vehicles.catalog.refresh-interval}; a reload builds a complete new snapshot
+ * and swaps it in with a single volatile write, so readers never see a half-built index.
+ */
+@Slf4j
 @Component
 public class VehicleRepositoryAdapter implements VehicleRepository {
 
     private final SpringDataVehicleRepository repository;
+    private final Counter reloads;
+    private final Counter reloadFailures;
+    private volatile VehicleCatalog catalog;
 
-    public VehicleRepositoryAdapter(SpringDataVehicleRepository repository) {
+    public VehicleRepositoryAdapter(SpringDataVehicleRepository repository, MeterRegistry meterRegistry) {
         this.repository = repository;
+        this.reloads = Counter.builder("vehicles.catalog.reloads")
+                .tag("result", "changed")
+                .register(meterRegistry);
+        this.reloadFailures = Counter.builder("vehicles.catalog.reloads")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("vehicles.catalog.rows", this, adapter -> {
+                    VehicleCatalog current = adapter.catalog;
+                    return current != null ? current.rows() : 0;
+                })
+                .register(meterRegistry);
     }
 
     @Override
     public List<String> findMakes(String type) {
-        return repository.findDistinctMakeByType(type);
+        return catalog().makes(type);
     }
 
     @Override
     public List<String> findModels(String type, String make) {
-        return repository.findDistinctModelByTypeAndMake(type, make);
+        return catalog().models(type, make);
     }
 
     @Override
     public List<String> findVariants(String type, String make, String model) {
-        return repository.findDistinctVariantByTypeAndMakeAndModel(type, make, model);
+        return catalog().variants(type, make, model);
     }
 
     @Override
     public List<String> findTyreSizes(String make, String model, String variant) {
-        return repository.findDistinctTyreSizeByMakeAndModelAndVariant(make, model, variant);
+        return catalog().tyreSizes(make, model, variant);
+    }
+
+    @Override
+    public String catalogVersion() {
+        return catalog().version();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tyreplus.vehicles.catalog.refresh-interval:PT10M}",
+            initialDelayString = "${tyreplus.vehicles.catalog.refresh-interval:PT10M}")
+    public void reload() {
+        try {
+            VehicleCatalog loaded = load();
+            VehicleCatalog previous = catalog;
+            if (previous == null || !previous.version().equals(loaded.version())) {
+                catalog = loaded;
+                reloads.increment();
+                log.info("Vehicle catalog loaded: {} rows, version {}", loaded.rows(), loaded.version());
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot; master data barely changes
+            reloadFailures.increment();
+            log.warn("Vehicle catalog reload failed: {}", e.getMessage());
+        }
+    }
+
+    // Requests can arrive before ApplicationReadyEvent; the first one loads the catalog itself
+    private VehicleCatalog catalog() {
+        VehicleCatalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (catalog == null) {
+                catalog = load();
+            }
+            return catalog;
+        }
+    }
+
+    private VehicleCatalog load() {
+        List<Vehicle> vehicles = repository.findAll().stream()
+                .map(v -> Vehicle.builder()
+                        .id(v.getId())
+                        .type(v.getType())
+                        .make(v.getMake())
+                        .model(v.getModel())
+                        .variant(v.getVariant())
+                        .tyreSize(v.getTyreSize())
+                        .build())
+                .toList();
+        return VehicleCatalog.of(vehicles);
     }
 }
@@ -5,7 +5,9 @@ import com.tyreplus.dealer.domain.repository.WalletRepository;
 import com.tyreplus.dealer.infrastructure.persistence.entity.WalletJpaEntity;
 import com.tyreplus.dealer.infrastructure.persistence.mapper.WalletMapper;
 import com.tyreplus.dealer.infrastructure.persistence.repository.WalletJpaRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -25,9 +27,22 @@ public class WalletRepositoryAdapter implements WalletRepository {
     }
 
     @Override
+    @Transactional
     public Wallet save(Wallet wallet) {
-        WalletJpaEntity jpaEntity = mapper.toJpaEntity(wallet);
-        WalletJpaEntity saved = jpaRepository.save(jpaEntity);
+        if (wallet.getId() != null) {
+            Optional<WalletJpaEntity> managed = jpaRepository.findById(wallet.getId());
+            if (managed.isPresent()) {
+                WalletJpaEntity jpaEntity = managed.get();
+                // Same guarantee merge gave us: a stale domain copy must not overwrite newer balances
+                if (wallet.getVersion() != null && !wallet.getVersion().equals(jpaEntity.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(WalletJpaEntity.class, wallet.getId());
+                }
+                // Dirty checking writes the UPDATE at commit, together with the rest of the unit of work
+                mapper.updateJpaEntity(wallet, jpaEntity);
+                return mapper.toDomainEntity(jpaEntity);
+            }
+        }
+        WalletJpaEntity saved = jpaRepository.save(mapper.toJpaEntity(wallet));
         return mapper.toDomainEntity(saved);
     }
 
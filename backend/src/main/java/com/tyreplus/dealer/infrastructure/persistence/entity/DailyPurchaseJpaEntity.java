@@ -0,0 +1,56 @@
+package com.tyreplus.dealer.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the per-dealer daily purchase rollup.
+ * Read-only from JPA; rows are written with native upserts.
+ */
+@Entity
+@Table(name = "dealer_daily_purchases")
+@IdClass(DailyPurchaseJpaEntity.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyPurchaseJpaEntity {
+
+    @Id
+    @Column(name = "dealer_id", nullable = false)
+    private UUID dealerId;
+
+    @Id
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "purchases", nullable = false)
+    private int purchases;
+
+    @Column(name = "credits_spent", nullable = false)
+    private long creditsSpent;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID dealerId;
+        private LocalDate day;
+    }
+}
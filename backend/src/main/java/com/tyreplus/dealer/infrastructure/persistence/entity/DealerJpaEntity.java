@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.DayOfWeek;
 import java.util.Set;
@@ -16,6 +17,7 @@ import java.util.UUID;
  * Maps domain entity to database table.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "dealers")
 @Getter
 @Setter
@@ -70,6 +72,9 @@ public class DealerJpaEntity {
     @Column(name = "closing_time", nullable = false)
     private java.time.LocalTime closingTime;
 
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(
             name = "dealer_open_days",
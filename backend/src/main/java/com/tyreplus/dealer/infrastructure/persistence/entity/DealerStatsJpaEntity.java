@@ -0,0 +1,48 @@
+package com.tyreplus.dealer.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for dealer dashboard counters.
+ * Read-only from JPA; rows are written with native upserts.
+ */
+@Entity
+@Table(name = "dealer_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DealerStatsJpaEntity {
+
+    @Id
+    @Column(name = "dealer_id", updatable = false, nullable = false)
+    private UUID dealerId;
+
+    @Column(name = "total_purchased", nullable = false)
+    private long totalPurchased;
+
+    @Column(name = "converted_count", nullable = false)
+    private long convertedCount;
+
+    @Column(name = "purchases_today", nullable = false)
+    private int purchasesToday;
+
+    @Column(name = "stats_day")
+    private LocalDate statsDay;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
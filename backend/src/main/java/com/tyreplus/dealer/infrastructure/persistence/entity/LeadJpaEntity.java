@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -18,6 +19,7 @@ import java.util.UUID;
  * Maps domain entity to database table.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "leads")
 @Getter
 @Setter
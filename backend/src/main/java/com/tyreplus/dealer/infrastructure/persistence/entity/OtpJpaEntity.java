@@ -19,7 +19,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "otps", indexes = {
-        @Index(name = "idx_otp_mobile_code", columnList = "mobile,code"),
+        @Index(name = "idx_otps_mobile_created", columnList = "mobile,created_at DESC"),
         @Index(name = "idx_otp_expires_at", columnList = "expires_at")
 })
 @Getter
@@ -45,4 +45,14 @@ public class TyreJpaEntity {
 
     @Column(name = "warranty_years")
     private Integer warrantyYears;
+
+    // Generated from size by the database (V11); read-only here
+    @Column(name = "size_width", insertable = false, updatable = false)
+    private Integer sizeWidth;
+
+    @Column(name = "size_aspect_ratio", insertable = false, updatable = false)
+    private Integer sizeAspectRatio;
+
+    @Column(name = "size_rim_diameter", insertable = false, updatable = false)
+    private Integer sizeRimDiameter;
 }
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.UUID;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
  * Wallet stores ONLY credits (not money).
  * */
 @Entity
+@DynamicUpdate
 @Table(
         name = "wallets",
         uniqueConstraints = @UniqueConstraint(columnNames = "dealer_id")
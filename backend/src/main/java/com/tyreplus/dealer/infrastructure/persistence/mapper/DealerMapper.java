@@ -7,6 +7,8 @@ import com.tyreplus.dealer.domain.valueobject.ContactDetails;
 import com.tyreplus.dealer.infrastructure.persistence.entity.DealerJpaEntity;
 import org.springframework.stereotype.Component;
 
+import java.time.DayOfWeek;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -37,9 +39,44 @@ public class DealerMapper {
                 .closingTime(dealer.getBusinessHours() != null ? dealer.getBusinessHours().closingTime() : null)
                 .openDays(dealer.getBusinessHours() != null ? dealer.getBusinessHours().openDays() : Set.of())
                 .passwordHash(dealer.getPasswordHash())
+                .timeZone(dealer.getTimeZone() != null ? dealer.getTimeZone() : Dealer.DEFAULT_TIME_ZONE)
                 .build();
     }
 
+    /**
+     * Applies the domain state onto a managed entity so only changed columns
+     * and open-day rows are written.
+     */
+    public void updateJpaEntity(Dealer dealer, DealerJpaEntity target) {
+        ContactDetails contact = dealer.getContactDetails();
+        Address address = dealer.getAddress();
+        BusinessHours hours = dealer.getBusinessHours();
+
+        target.setBusinessName(dealer.getBusinessName());
+        target.setOwnerName(dealer.getOwnerName());
+        target.setVerified(dealer.isVerified());
+        target.setEmail(contact != null ? contact.email() : null);
+        target.setPhoneNumber(contact != null ? contact.phoneNumber() : null);
+        target.setAlternatePhoneNumber(contact != null ? contact.alternatePhoneNumber() : null);
+        target.setStreet(address != null ? address.street() : null);
+        target.setCity(address != null ? address.city() : null);
+        target.setState(address != null ? address.state() : null);
+        target.setZipCode(address != null ? address.zipCode() : null);
+        target.setCountry(address != null ? address.country() : null);
+        target.setOpeningTime(hours != null ? hours.openingTime() : null);
+        target.setClosingTime(hours != null ? hours.closingTime() : null);
+        target.setPasswordHash(dealer.getPasswordHash());
+        target.setTimeZone(dealer.getTimeZone() != null ? dealer.getTimeZone() : Dealer.DEFAULT_TIME_ZONE);
+
+        Set<DayOfWeek> openDays = hours != null && hours.openDays() != null ? hours.openDays() : Set.of();
+        if (target.getOpenDays() == null) {
+            target.setOpenDays(new HashSet<>(openDays));
+        } else if (!target.getOpenDays().equals(openDays)) {
+            target.getOpenDays().retainAll(openDays);
+            target.getOpenDays().addAll(openDays);
+        }
+    }
+
     public Dealer toDomainEntity(DealerJpaEntity jpaEntity) {
         if (jpaEntity == null) {
             return null;
@@ -74,6 +111,7 @@ public class DealerMapper {
                 .contactDetails(contactDetails)
                 .address(address)
                 .businessHours(businessHours)
+                .timeZone(jpaEntity.getTimeZone())
                 .build();
     }
 }
@@ -2,8 +2,13 @@ package com.tyreplus.dealer.infrastructure.persistence.mapper;
 
 import com.tyreplus.dealer.domain.entity.Lead;
 import com.tyreplus.dealer.infrastructure.persistence.entity.LeadJpaEntity;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * Mapper between domain Lead entity and JPA entity.
  */
@@ -27,9 +32,37 @@ public class LeadMapper {
                 .purchasedByDealerId(lead.getPurchasedByDealerId())
                 .createdAt(lead.getCreatedAt())
                 .purchasedAt(lead.getPurchasedAt())
+                .skippedByDealerIds(lead.getSkippedByDealerIds() != null
+                        ? new HashSet<>(lead.getSkippedByDealerIds())
+                        : new HashSet<>())
                 .build();
     }
 
+    /**
+     * Applies the lifecycle changes a use case can make onto a managed entity, so Hibernate's
+     * dirty checking only writes what actually changed. Customer details, cost and createdAt
+     * are fixed at ingest and never copied back, and an existing purchaser is never replaced,
+     * so a stale domain copy cannot undo a purchase made by the conditional claim statement.
+     * Skips are additive: the domain never removes one, and an unloaded skip collection is
+     * left untouched instead of being rewritten.
+     */
+    public void updateJpaEntity(Lead lead, LeadJpaEntity target) {
+        target.setStatus(lead.getStatus());
+        if (target.getPurchasedByDealerId() == null && lead.getPurchasedByDealerId() != null) {
+            target.setPurchasedByDealerId(lead.getPurchasedByDealerId());
+            target.setPurchasedAt(lead.getPurchasedAt());
+        }
+
+        Set<UUID> skips = lead.getSkippedByDealerIds();
+        if (skips != null && !skips.isEmpty()) {
+            if (target.getSkippedByDealerIds() == null) {
+                target.setSkippedByDealerIds(new HashSet<>(skips));
+            } else {
+                target.getSkippedByDealerIds().addAll(skips);
+            }
+        }
+    }
+
     public Lead toDomainEntity(LeadJpaEntity jpaEntity) {
         if (jpaEntity == null) {
             return null;
@@ -47,6 +80,12 @@ public class LeadMapper {
                 .purchasedByDealerId(jpaEntity.getPurchasedByDealerId())
                 .createdAt(jpaEntity.getCreatedAt())
                 .purchasedAt(jpaEntity.getPurchasedAt())
+                // Only copy skips that are already loaded; touching a lazy collection here
+                // would cost one extra SELECT per lead on every feed page.
+                .skippedByDealerIds(jpaEntity.getSkippedByDealerIds() != null
+                        && Hibernate.isInitialized(jpaEntity.getSkippedByDealerIds())
+                        ? new HashSet<>(jpaEntity.getSkippedByDealerIds())
+                        : new HashSet<>())
                 .build();
     }
 }
@@ -20,6 +20,15 @@ public class WalletMapper {
                 .build();
     }
 
+    /**
+     * Applies balance changes onto a managed entity; the version is left to Hibernate.
+     */
+    public void updateJpaEntity(Wallet wallet, WalletJpaEntity target) {
+        target.setDealerId(wallet.getDealerId());
+        target.setPurchasedCredits(wallet.getPurchasedCredits());
+        target.setBonusCredits(wallet.getBonusCredits());
+    }
+
     public Wallet toDomainEntity(WalletJpaEntity jpaEntity) {
         return Wallet.builder()
                 .id(jpaEntity.getId())
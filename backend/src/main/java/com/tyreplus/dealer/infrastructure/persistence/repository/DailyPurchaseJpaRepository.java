@@ -0,0 +1,20 @@
+package com.tyreplus.dealer.infrastructure.persistence.repository;
+
+import com.tyreplus.dealer.infrastructure.persistence.entity.DailyPurchaseJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for DailyPurchaseJpaEntity.
+ */
+@Repository
+public interface DailyPurchaseJpaRepository
+        extends JpaRepository<DailyPurchaseJpaEntity, DailyPurchaseJpaEntity.Key> {
+
+    // Primary-key range scan: one row per day with purchases
+    List<DailyPurchaseJpaEntity> findByDealerIdAndDayBetweenOrderByDayAsc(UUID dealerId, LocalDate from, LocalDate to);
+}
@@ -2,8 +2,12 @@ package com.tyreplus.dealer.infrastructure.persistence.repository;
 
 import com.tyreplus.dealer.infrastructure.persistence.entity.DealerJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,6 +20,39 @@ public interface DealerJpaRepository extends JpaRepository<DealerJpaEntity, UUID
     Optional<DealerJpaEntity> findByEmail(String email);
     Optional<DealerJpaEntity> findByPhoneNumberOrEmail(String phoneNumber,String email);
     boolean existsByPhoneNumber(String phoneNumber);
-    boolean existsByEmail(String email);
+    // Case-insensitive on idx_dealers_email_lower, the same way sign-in matches emails
+    @Query("SELECT COUNT(d) > 0 FROM DealerJpaEntity d WHERE lower(d.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * Sign-in columns only, so the open-days collection and the address are never loaded.
+     */
+    interface DealerCredentialsView {
+        UUID getId();
+        String getPhoneNumber();
+        String getPasswordHash();
+        boolean getVerified();
+        String getBusinessName();
+    }
+
+    @Query("""
+            SELECT d.id AS id, d.phoneNumber AS phoneNumber, d.passwordHash AS passwordHash,
+                   d.isVerified AS verified, d.businessName AS businessName
+            FROM DealerJpaEntity d WHERE d.phoneNumber = :phoneNumber
+            """)
+    Optional<DealerCredentialsView> findCredentialsByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    // Served by idx_dealers_email_lower; a List because the unique constraint is on email as typed,
+    // so older rows may still differ only by case
+    @Query("""
+            SELECT d.id AS id, d.phoneNumber AS phoneNumber, d.passwordHash AS passwordHash,
+                   d.isVerified AS verified, d.businessName AS businessName
+            FROM DealerJpaEntity d WHERE lower(d.email) = :email
+            """)
+    List<DealerCredentialsView> findCredentialsByEmailLower(@Param("email") String email);
+
+    @Modifying
+    @Query("UPDATE DealerJpaEntity d SET d.passwordHash = :passwordHash WHERE d.id = :id")
+    int updatePasswordHash(@Param("id") UUID id, @Param("passwordHash") String passwordHash);
 }
 
@@ -0,0 +1,51 @@
+package com.tyreplus.dealer.infrastructure.persistence.repository;
+
+import com.tyreplus.dealer.infrastructure.persistence.entity.DealerStatsJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for DealerStatsJpaEntity.
+ */
+@Repository
+public interface DealerStatsJpaRepository extends JpaRepository<DealerStatsJpaEntity, UUID> {
+
+    interface DealerStatsView {
+        UUID getDealerId();
+
+        String getTimeZone();
+
+        long getTotalPurchased();
+
+        long getConvertedCount();
+
+        int getPurchasesToday();
+
+        LocalDate getStatsDay();
+    }
+
+    // Counters plus the dealer's zone in one primary-key read; dealers without purchases have no stats row
+    @Query("SELECT d.id AS dealerId, d.timeZone AS timeZone, " +
+            "COALESCE(s.totalPurchased, 0) AS totalPurchased, COALESCE(s.convertedCount, 0) AS convertedCount, " +
+            "COALESCE(s.purchasesToday, 0) AS purchasesToday, s.statsDay AS statsDay " +
+            "FROM DealerJpaEntity d LEFT JOIN DealerStatsJpaEntity s ON s.dealerId = d.id " +
+            "WHERE d.id = :dealerId")
+    Optional<DealerStatsView> findViewByDealerId(@Param("dealerId") UUID dealerId);
+
+    // Increment in SQL so concurrent writers never lose an update
+    @Modifying
+    @Query(value = "INSERT INTO dealer_stats (dealer_id, converted_count, updated_at) " +
+            "VALUES (:dealerId, 1, :now) " +
+            "ON CONFLICT (dealer_id) DO UPDATE " +
+            "SET converted_count = dealer_stats.converted_count + 1, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void incrementConverted(@Param("dealerId") UUID dealerId, @Param("now") LocalDateTime now);
+}
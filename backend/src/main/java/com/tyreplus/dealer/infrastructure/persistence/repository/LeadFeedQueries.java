@@ -0,0 +1,23 @@
+package com.tyreplus.dealer.infrastructure.persistence.repository;
+
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.infrastructure.persistence.entity.LeadJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom query fragment for the lead feed.
+ * Implemented with native SQL so Postgres can seek on the feed index.
+ */
+public interface LeadFeedQueries {
+
+    /**
+     * Returns up to {@code limit} unpurchased leads positioned strictly after the
+     * given (createdAt, id) cursor. A null cursor starts from the beginning.
+     * No COUNT query is issued.
+     */
+    List<LeadJpaEntity> findFeedPage(LeadStatus status, UUID dealerId, boolean ascending,
+                                     LocalDateTime afterCreatedAt, UUID afterId, int limit);
+}
@@ -0,0 +1,55 @@
+package com.tyreplus.dealer.infrastructure.persistence.repository;
+
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.infrastructure.persistence.entity.LeadJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native SQL implementation of {@link LeadFeedQueries}.
+ * Picked up by Spring Data as a fragment of {@link LeadJpaRepository}.
+ */
+public class LeadFeedQueriesImpl implements LeadFeedQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<LeadJpaEntity> findFeedPage(LeadStatus status, UUID dealerId, boolean ascending,
+                                            LocalDateTime afterCreatedAt, UUID afterId, int limit) {
+        // Row-value comparison lets Postgres start the index scan at the cursor
+        // instead of walking and discarding every row before it (OFFSET).
+        StringBuilder sql = new StringBuilder("SELECT l.* FROM leads l WHERE l.purchased_by_dealer_id IS NULL ");
+        if (status != null) {
+            sql.append("AND l.status = CAST(:status AS lead_status) ");
+        }
+        sql.append("AND NOT EXISTS (SELECT 1 FROM lead_skips s WHERE s.lead_id = l.id AND s.dealer_id = :dealerId) ");
+        if (afterCreatedAt != null) {
+            sql.append(ascending
+                    ? "AND (l.created_at, l.id) > (:afterCreatedAt, :afterId) "
+                    : "AND (l.created_at, l.id) < (:afterCreatedAt, :afterId) ");
+        }
+        sql.append(ascending
+                ? "ORDER BY l.created_at ASC, l.id ASC "
+                : "ORDER BY l.created_at DESC, l.id DESC ");
+        sql.append("LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), LeadJpaEntity.class)
+                .setParameter("dealerId", dealerId)
+                .setParameter("limit", limit);
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt)
+                    .setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+}
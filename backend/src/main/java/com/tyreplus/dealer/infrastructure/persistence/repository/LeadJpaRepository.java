@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,7 +21,8 @@ import java.util.UUID;
  * Spring Data JPA repository for LeadJpaEntity.
  */
 @Repository
-public interface LeadJpaRepository extends JpaRepository<LeadJpaEntity, UUID>, JpaSpecificationExecutor<LeadJpaEntity> {
+public interface LeadJpaRepository extends JpaRepository<LeadJpaEntity, UUID>, JpaSpecificationExecutor<LeadJpaEntity>,
+        LeadFeedQueries {
         List<LeadJpaEntity> findByStatus(LeadStatus status);
 
         // This method counts leads for a specific dealer created after a certain time
@@ -37,15 +39,31 @@ public interface LeadJpaRepository extends JpaRepository<LeadJpaEntity, UUID>, J
         @Query("SELECT l FROM LeadJpaEntity l WHERE l.id = :id")
         Optional<LeadJpaEntity> findByIdWithLock(@Param("id") UUID id);
 
-        @Query("SELECT l FROM LeadJpaEntity l " +
-                        "WHERE (:status IS NULL OR l.status = :status) " +
-                        "AND (:dealerId NOT MEMBER OF l.skippedByDealerIds) " +
-                        "AND (l.purchasedByDealerId IS NULL) " +
+        // Writes only the skip row, so a concurrent purchase on the lead is never overwritten;
+        // 0 rows when the lead does not exist or the dealer already skipped it
+        @Modifying
+        @Query(value = "INSERT INTO lead_skips (lead_id, dealer_id) " +
+                        "SELECT l.id, :dealerId FROM leads l WHERE l.id = :leadId " +
+                        "ON CONFLICT (lead_id, dealer_id) DO NOTHING",
+                nativeQuery = true)
+        int insertSkip(@Param("leadId") UUID leadId, @Param("dealerId") UUID dealerId);
+
+        // Native so the skip filter is a NOT EXISTS anti-join on lead_skips(dealer_id, lead_id)
+        // rather than the correlated IN-subquery Hibernate emits for NOT MEMBER OF.
+        @Query(value = "SELECT l.* FROM leads l " +
+                        "WHERE (CAST(:status AS varchar) IS NULL OR l.status = CAST(:status AS lead_status)) " +
+                        "AND NOT EXISTS (SELECT 1 FROM lead_skips s WHERE s.lead_id = l.id AND s.dealer_id = :dealerId) " +
+                        "AND l.purchased_by_dealer_id IS NULL " +
                         "ORDER BY " +
-                        "CASE WHEN :sort = 'date_asc' THEN l.createdAt END ASC, " +
-                        "CASE WHEN :sort = 'date_desc' THEN l.createdAt END DESC")
+                        "CASE WHEN :sort = 'date_asc' THEN l.created_at END ASC, " +
+                        "CASE WHEN :sort = 'date_desc' THEN l.created_at END DESC",
+                countQuery = "SELECT COUNT(*) FROM leads l " +
+                        "WHERE (CAST(:status AS varchar) IS NULL OR l.status = CAST(:status AS lead_status)) " +
+                        "AND NOT EXISTS (SELECT 1 FROM lead_skips s WHERE s.lead_id = l.id AND s.dealer_id = :dealerId) " +
+                        "AND l.purchased_by_dealer_id IS NULL",
+                nativeQuery = true)
         Page<LeadJpaEntity> findLeadsWithFilters(
-                        @Param("status") LeadStatus status,
+                        @Param("status") String status,
                         @Param("dealerId") UUID dealerId,
                         @Param("sort") String sort,
                         Pageable pageable);
@@ -8,7 +8,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,14 +17,30 @@ import java.util.UUID;
 @Repository
 public interface OtpJpaRepository extends JpaRepository<OtpJpaEntity, UUID> {
     Optional<OtpJpaEntity> findByMobileAndCode(String mobile, String code);
-    List<OtpJpaEntity> findByMobileOrderByCreatedAtDesc(String mobile);
+    Optional<OtpJpaEntity> findFirstByMobileOrderByCreatedAtDesc(String mobile);
     
+    @Query(value = "UPDATE otps SET attempts = attempts + 1 WHERE id = :id RETURNING attempts", nativeQuery = true)
+    Optional<Integer> incrementAttempts(@Param("id") UUID id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OtpJpaEntity o SET o.used = true WHERE o.id = :id AND o.used = false")
+    int markUsed(@Param("id") UUID id);
+
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM OtpJpaEntity o WHERE o.mobile = :mobile")
     void deleteByMobile(@Param("mobile") String mobile);
     
+    /**
+     * Deletes one batch of OTPs that expired before the cutoff. Rows locked by an
+     * in-flight validation are skipped and picked up by a later batch.
+     */
     @Modifying
-    @Query("DELETE FROM OtpJpaEntity o WHERE o.expiresAt < :now")
-    void deleteExpiredOtp(@Param("now") LocalDateTime now);
+    @Query(value = """
+            DELETE FROM otps WHERE id IN (
+                SELECT id FROM otps WHERE expires_at < :cutoff
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
 
@@ -1,6 +1,7 @@
 package com.tyreplus.dealer.infrastructure.persistence.repository;
 
 import com.tyreplus.dealer.infrastructure.persistence.entity.TyreJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,23 +9,35 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Search and listings are answered from TyreCatalog, which reads the table in full.
+ * The size lookups below are range scans on the parsed size columns (V11 indexes). The range
+ * lookups are paged: a bound left open can match most of the catalog. The id tie-break keeps
+ * page boundaries stable.
+ */
 public interface SpringDataTyreRepository extends JpaRepository<TyreJpaEntity, UUID> {
 
-    @Query("SELECT t FROM TyreJpaEntity t WHERE " +
-            "(:brand IS NULL OR t.brand = :brand) AND " +
-            "(:size IS NULL OR t.size = :size) AND " +
-            "(:pattern IS NULL OR t.pattern = :pattern)")
-    List<TyreJpaEntity> search(@Param("brand") String brand,
-            @Param("size") String size,
-            @Param("pattern") String pattern);
-
-    @Query("SELECT DISTINCT t.brand FROM TyreJpaEntity t")
-    List<String> findDistinctBrands();
-
-    @Query("SELECT DISTINCT t.size FROM TyreJpaEntity t WHERE t.brand = :brand")
-    List<String> findDistinctSizesByBrand(String brand);
-
-    @Query("SELECT DISTINCT t.pattern FROM TyreJpaEntity t WHERE t.brand = :brand AND t.size = :size")
-    List<String> findDistinctPatternsByBrandAndSize(String brand, String size);
-
+    @Query("""
+            SELECT t FROM TyreJpaEntity t
+            WHERE t.sizeRimDiameter = :rim AND t.sizeWidth = :width AND t.sizeAspectRatio = :aspectRatio
+            ORDER BY t.price
+            """)
+    List<TyreJpaEntity> findFitting(@Param("width") int width, @Param("aspectRatio") int aspectRatio,
+            @Param("rim") int rimDiameter);
+
+    @Query("""
+            SELECT t FROM TyreJpaEntity t
+            WHERE t.sizeRimDiameter = :rim AND t.sizeWidth BETWEEN :minWidth AND :maxWidth
+            ORDER BY t.sizeWidth, t.sizeAspectRatio, t.price, t.id
+            """)
+    List<TyreJpaEntity> findByRimAndWidthRange(@Param("rim") int rimDiameter,
+            @Param("minWidth") int minWidth, @Param("maxWidth") int maxWidth, Pageable pageable);
+
+    @Query("""
+            SELECT t FROM TyreJpaEntity t
+            WHERE t.sizeWidth BETWEEN :minWidth AND :maxWidth
+            ORDER BY t.sizeWidth, t.sizeRimDiameter, t.sizeAspectRatio, t.price, t.id
+            """)
+    List<TyreJpaEntity> findByWidthRange(@Param("minWidth") int minWidth, @Param("maxWidth") int maxWidth,
+            Pageable pageable);
 }
@@ -2,9 +2,13 @@ package com.tyreplus.dealer.infrastructure.persistence.repository;
 
 import com.tyreplus.dealer.infrastructure.persistence.entity.TransactionJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -12,9 +16,27 @@ import java.util.UUID;
  */
 @Repository
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, UUID> {
-    List<TransactionJpaEntity> findByDealerIdOrderByCreatedAtDesc(UUID dealerId);
+
+    // Both pages seek on idx_transactions_dealer_created; kept as two statements so neither
+    // carries a "cursor IS NULL OR ..." branch that would defeat the index range scan.
+    @Query(value = "SELECT * FROM transactions t WHERE t.dealer_id = :dealerId " +
+            "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionJpaEntity> findFirstPageByDealerId(
+            @Param("dealerId") UUID dealerId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM transactions t WHERE t.dealer_id = :dealerId " +
+            "AND (t.created_at, t.id) < (:beforeCreatedAt, :beforeId) " +
+            "ORDER BY t.created_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionJpaEntity> findPageByDealerIdBefore(
+            @Param("dealerId") UUID dealerId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") UUID beforeId,
+            @Param("limit") int limit);
 
     List<TransactionJpaEntity> findByWalletIdOrderByCreatedAtDesc(UUID walletId);
 
+    Optional<TransactionJpaEntity> findFirstByPaymentId(String paymentId);
+
     boolean existsByPaymentId(String paymentId);
 }
@@ -0,0 +1,52 @@
+package com.tyreplus.dealer.infrastructure.realtime;
+
+import com.tyreplus.dealer.application.dto.LeadDetailsResponse;
+import com.tyreplus.dealer.domain.entity.Lead;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change to the lead feed pushed to connected dealers.
+ * CREATED carries the new lead; SOLD is a tombstone carrying only the lead id and EXPIRED
+ * carries the ids of a whole sweep chunk.
+ * RESYNC carries nothing and tells the client to reload its feed, for changes too large to
+ * push one by one and for clients that fell behind.
+ */
+public record LeadEvent(
+        Type type,
+        List<UUID> leadIds,
+        LeadDetailsResponse lead
+) {
+    public LeadEvent {
+        leadIds = leadIds != null ? List.copyOf(leadIds) : List.of();
+    }
+
+    public enum Type {
+        CREATED, SOLD, EXPIRED, RESYNC;
+
+        public String eventName() {
+            return "lead." + name().toLowerCase();
+        }
+    }
+
+    public static LeadEvent created(Lead lead) {
+        return new LeadEvent(Type.CREATED, List.of(lead.getId()), new LeadDetailsResponse(
+                lead.getId(), lead.getCustomerName(), lead.getCustomerPhone(),
+                lead.getCustomerEmail(), lead.getVehicleModel(), lead.getVehicleYear(),
+                lead.getStatus(), lead.getLeadCost(), lead.getPurchasedByDealerId(),
+                lead.getCreatedAt(), lead.getPurchasedAt()));
+    }
+
+    public static LeadEvent sold(UUID leadId) {
+        return new LeadEvent(Type.SOLD, List.of(leadId), null);
+    }
+
+    public static LeadEvent expired(List<UUID> leadIds) {
+        return new LeadEvent(Type.EXPIRED, leadIds, null);
+    }
+
+    public static LeadEvent resync() {
+        return new LeadEvent(Type.RESYNC, List.of(), null);
+    }
+}
@@ -0,0 +1,152 @@
+package com.tyreplus.dealer.infrastructure.realtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of lead events to connected SSE clients.
+ *
+ * Each subscriber has its own queue drained by a virtual thread, so one slow client never
+ * delays the others and events reach every client in publish order. A client that falls
+ * more than max-pending events behind stays connected: its backlog is replaced by a single
+ * lead.resync event and anything offered until that is sent is dropped, since the reload it
+ * triggers happens after those events committed and so already includes them.
+ */
+@Slf4j
+@Component
+public class LeadEventBroadcaster {
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int maxPending;
+    private final Counter resyncs;
+
+    public LeadEventBroadcaster(MeterRegistry meterRegistry,
+            @Value("${tyreplus.realtime.sse.timeout:PT30M}") Duration timeout,
+            @Value("${tyreplus.realtime.sse.max-pending:256}") int maxPending) {
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPending = maxPending;
+        meterRegistry.gauge("leads.stream.subscribers", subscribers, Map::size);
+        this.resyncs = Counter.builder("leads.stream.resyncs")
+                .description("Subscriber backlogs replaced by a resync event for falling behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID dealerId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(dealerId, emitter);
+        subscribers.put(emitter, subscriber);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(emitter));
+        // Flushes the response headers so the client sees the stream open immediately
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public void broadcast(LeadEvent event) {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(toSse(event));
+        }
+    }
+
+    // Builders are stateful, so every subscriber gets its own
+    private static SseEmitter.SseEventBuilder toSse(LeadEvent event) {
+        SseEmitter.SseEventBuilder sse = SseEmitter.event().name(event.type().eventName());
+        if (event.leadIds().size() == 1) {
+            sse.id(event.leadIds().get(0).toString());
+        }
+        return sse.data(event, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Keeps idle connections open through proxies and surfaces dead clients.
+     */
+    @Scheduled(fixedDelayString = "${tyreplus.realtime.sse.heartbeat:PT25S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(SseEmitter.event().comment("ping"));
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID dealerId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resync = new AtomicBoolean();
+
+        private Subscriber(UUID dealerId, SseEmitter emitter) {
+            this.dealerId = dealerId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (resync.get()) {
+                return;
+            }
+            if (size.incrementAndGet() > maxPending) {
+                size.decrementAndGet();
+                if (resync.compareAndSet(false, true)) {
+                    resyncs.increment();
+                    log.debug("Lead stream for dealer {} fell behind, sending resync", dealerId);
+                }
+            } else {
+                pending.add(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("lead-stream-" + dealerId).start(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    // Cleared before the backlog is discarded, so nothing offered after this
+                    // point is lost; anything discarded committed before the resync is sent
+                    if (resync.compareAndSet(true, false)) {
+                        while (pending.poll() != null) {
+                            size.decrementAndGet();
+                        }
+                        emitter.send(toSse(LeadEvent.resync()));
+                        continue;
+                    }
+                    SseEmitter.SseEventBuilder event = pending.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    size.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                subscribers.remove(emitter);
+                pending.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have raced with the end of the loop
+            if ((!pending.isEmpty() || resync.get()) && draining.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("lead-stream-" + dealerId).start(this::drain);
+            }
+        }
+    }
+}
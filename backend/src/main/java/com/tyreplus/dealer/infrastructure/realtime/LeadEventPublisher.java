@@ -0,0 +1,11 @@
+package com.tyreplus.dealer.infrastructure.realtime;
+
+/**
+ * Publishes lead feed changes to every node's LeadEventBroadcaster.
+ * Events are delivered only once the surrounding transaction commits, so a rolled-back
+ * insert or purchase is never pushed. Selected with {@code tyreplus.realtime.bridge=local|postgres}.
+ */
+public interface LeadEventPublisher {
+
+    void publish(LeadEvent event);
+}
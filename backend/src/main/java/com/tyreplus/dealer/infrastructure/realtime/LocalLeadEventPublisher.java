@@ -0,0 +1,34 @@
+package com.tyreplus.dealer.infrastructure.realtime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single-node publisher: hands events straight to this node's broadcaster after commit.
+ */
+@Component
+@ConditionalOnProperty(name = "tyreplus.realtime.bridge", havingValue = "local", matchIfMissing = true)
+public class LocalLeadEventPublisher implements LeadEventPublisher {
+
+    private final LeadEventBroadcaster broadcaster;
+
+    public LocalLeadEventPublisher(LeadEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void publish(LeadEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcaster.broadcast(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcaster.broadcast(event);
+            }
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package com.tyreplus.dealer.infrastructure.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-node publisher over Postgres LISTEN/NOTIFY (tyreplus.realtime.bridge=postgres).
+ *
+ * publish() issues pg_notify on the caller's connection, so Postgres itself holds the
+ * notification until commit and drops it on rollback. Every node, including this one,
+ * receives it on a dedicated listening connection (outside the Hikari pool) and hands it
+ * to its local broadcaster.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tyreplus.realtime.bridge", havingValue = "postgres")
+public class PostgresLeadEventBridge implements LeadEventPublisher {
+
+    private static final String CHANNEL = "lead_events";
+    // NOTIFY payloads are capped at 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 8000;
+    // 39 bytes per quoted id, so a slice stays well under the cap
+    private static final int MAX_IDS_PER_NOTIFY = 150;
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final LeadEventBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresLeadEventBridge(LeadEventBroadcaster broadcaster, ObjectMapper objectMapper,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void publish(LeadEvent event) {
+        List<UUID> ids = event.leadIds();
+        if (ids.size() <= MAX_IDS_PER_NOTIFY) {
+            publishNotification(event);
+            return;
+        }
+        // A whole expiry chunk does not fit one payload; a few slices still beat one per lead
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_NOTIFY) {
+            publishNotification(new LeadEvent(event.type(), ids.subList(from, Math.min(from + MAX_IDS_PER_NOTIFY, ids.size())),
+                    null));
+        }
+    }
+
+    private void publishNotification(LeadEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+                // Oversized lead: send the id only; clients reload it
+                payload = objectMapper.writeValueAsString(new LeadEvent(event.type(), event.leadIds(), null));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize lead event for {}: {}", event.leadIds(), e.getMessage());
+            return;
+        }
+        entityManager.createNativeQuery("SELECT pg_notify(:channel, :payload)")
+                .setParameter("channel", CHANNEL)
+                .setParameter("payload", payload)
+                .getSingleResult();
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofVirtual().name("lead-events-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for lead events on channel {}", CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(10_000);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lead event listener lost its connection, retrying in {}s: {}",
+                        RECONNECT_DELAY.toSeconds(), e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            broadcaster.broadcast(objectMapper.readValue(payload, LeadEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed lead event: {}", e.getMessage());
+        }
+    }
+}
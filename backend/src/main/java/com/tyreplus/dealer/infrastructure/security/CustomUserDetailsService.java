@@ -16,7 +16,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String mobile) throws UsernameNotFoundException {
         return dealerRepository.findByMobile(mobile)
-                .map(DealerDetails::new)
+                .map(DealerDetails::from)
                 .orElseThrow(() -> new UsernameNotFoundException("Dealer not found with mobile: " + mobile));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.tyreplus.dealer.infrastructure.security;
 
 import com.tyreplus.dealer.domain.entity.Dealer;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,9 +10,31 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public record DealerDetails(Dealer dealer) implements UserDetails {
-    
-    public UUID getId() { return dealer.getId(); }
+/**
+ * Authenticated dealer principal. Built either from the dealers table or,
+ * in stateless mode, straight from verified JWT claims (no password hash then).
+ */
+public record DealerDetails(UUID id, String mobile, String passwordHash) implements UserDetails {
+
+    public static DealerDetails from(Dealer dealer) {
+        return new DealerDetails(
+                dealer.getId(),
+                dealer.getContactDetails() != null ? dealer.getContactDetails().phoneNumber() : "",
+                dealer.getPasswordHash());
+    }
+
+    /**
+     * @return the principal, or null if the token predates the userId claim
+     */
+    public static DealerDetails fromClaims(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        if (userId == null) {
+            return null;
+        }
+        return new DealerDetails(UUID.fromString(userId), claims.getSubject(), null);
+    }
+
+    public UUID getId() { return id; }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -20,12 +43,12 @@ public record DealerDetails(Dealer dealer) implements UserDetails {
 
     @Override
     public String getPassword() {
-        return dealer.getPasswordHash();
+        return passwordHash;
     }
 
     @Override
     public String getUsername() {
-        return dealer.getContactDetails() != null ? dealer.getContactDetails().phoneNumber() : "";
+        return mobile;
     }
 
     @Override
@@ -39,4 +62,4 @@ public record DealerDetails(Dealer dealer) implements UserDetails {
 
     @Override
     public boolean isEnabled() { return true; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-node refresh token store. Entries expire with the token and the map is capped,
+ * evicting the least recently used sessions first. Sessions do not survive a restart.
+ */
+@Component
+@ConditionalOnProperty(name = "tyreplus.security.refresh-tokens.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private record Entry(UUID dealerId, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> tokens;
+
+    public InMemoryRefreshTokenStore(MeterRegistry meterRegistry,
+            @Value("${tyreplus.security.refresh-tokens.max-size:100000}") long maxSize) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "refresh-tokens");
+    }
+
+    @Override
+    public void save(String tokenHash, UUID dealerId, Duration ttl) {
+        tokens.put(tokenHash, new Entry(dealerId, ttl.toNanos()));
+    }
+
+    @Override
+    public Optional<UUID> find(String tokenHash) {
+        return Optional.ofNullable(tokens.getIfPresent(tokenHash)).map(Entry::dealerId);
+    }
+
+    @Override
+    public Optional<UUID> rotate(String oldHash, String newHash, Duration ttl) {
+        // remove() is atomic on the underlying map, so only one caller gets the old entry back
+        Entry old = tokens.asMap().remove(oldHash);
+        if (old == null) {
+            return Optional.empty();
+        }
+        save(newHash, old.dealerId(), ttl);
+        return Optional.of(old.dealerId());
+    }
+
+    @Override
+    public void delete(String tokenHash) {
+        tokens.invalidate(tokenHash);
+    }
+}
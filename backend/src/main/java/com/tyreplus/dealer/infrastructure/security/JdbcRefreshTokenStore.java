@@ -0,0 +1,100 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Postgres-backed refresh token store (table refresh_tokens), shared by every instance and
+ * durable across restarts. Rotation is a single DELETE ... RETURNING feeding an INSERT.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tyreplus.security.refresh-tokens.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String ROTATE_SQL = """
+            WITH old AS (
+                DELETE FROM refresh_tokens
+                WHERE token_hash = :oldHash AND expires_at > :now
+                RETURNING dealer_id
+            )
+            INSERT INTO refresh_tokens (token_hash, dealer_id, expires_at, created_at)
+            SELECT :newHash, dealer_id, :expiresAt, :now FROM old
+            RETURNING dealer_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void save(String tokenHash, UUID dealerId, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.createNativeQuery("""
+                INSERT INTO refresh_tokens (token_hash, dealer_id, expires_at, created_at)
+                VALUES (:hash, :dealerId, :expiresAt, :now)
+                """)
+                .setParameter("hash", tokenHash)
+                .setParameter("dealerId", dealerId)
+                .setParameter("expiresAt", now.plus(ttl))
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UUID> find(String tokenHash) {
+        List<?> rows = entityManager.createNativeQuery(
+                "SELECT dealer_id FROM refresh_tokens WHERE token_hash = :hash AND expires_at > :now")
+                .setParameter("hash", tokenHash)
+                .setParameter("now", LocalDateTime.now())
+                .getResultList();
+        return rows.stream().findFirst().map(UUID.class::cast);
+    }
+
+    @Override
+    @Transactional
+    public Optional<UUID> rotate(String oldHash, String newHash, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        List<?> rows = entityManager.createNativeQuery(ROTATE_SQL)
+                .setParameter("oldHash", oldHash)
+                .setParameter("newHash", newHash)
+                .setParameter("expiresAt", now.plus(ttl))
+                .setParameter("now", now)
+                .getResultList();
+        return rows.stream().findFirst().map(UUID.class::cast);
+    }
+
+    @Override
+    @Transactional
+    public void delete(String tokenHash) {
+        entityManager.createNativeQuery("DELETE FROM refresh_tokens WHERE token_hash = :hash")
+                .setParameter("hash", tokenHash)
+                .executeUpdate();
+    }
+
+    /**
+     * Expired rows are already ignored by every read; this only reclaims the space.
+     */
+    @Scheduled(fixedDelayString = "${tyreplus.security.refresh-tokens.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = entityManager.createNativeQuery("DELETE FROM refresh_tokens WHERE expires_at <= :now")
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+}
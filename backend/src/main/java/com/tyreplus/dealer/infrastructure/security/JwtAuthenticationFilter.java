@@ -1,9 +1,13 @@
 package com.tyreplus.dealer.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 
 /**
@@ -22,12 +27,30 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Claims already verified earlier in the request (by RateLimitingFilter). */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService; // Add this
+    private final TokenRevocationService tokenRevocationService;
+    // "claims": principal built from the verified token, no DB hit. "database": loaded per request.
+    private final boolean stateless;
+    // Optional short-TTL cache for database mode; null when disabled
+    private final Cache<String, UserDetails> principalCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService,
+            TokenRevocationService tokenRevocationService,
+            @Value("${tyreplus.security.auth-mode:claims}") String authMode,
+            @Value("${tyreplus.security.principal-cache.ttl:PT0S}") Duration principalCacheTtl) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.stateless = "claims".equalsIgnoreCase(authMode);
+        this.principalCache = principalCacheTtl.isZero() ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(principalCacheTtl)
+                        .maximumSize(10_000)
+                        .build();
     }
 
     @Override
@@ -43,13 +66,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String mobile = jwtUtil.extractUsername(jwt); // Username is the mobile
+            // Verify the signature once; every claim below is read from this result
+            final Claims claims = request.getAttribute(CLAIMS_ATTRIBUTE) instanceof Claims verified
+                    ? verified
+                    : jwtUtil.parseClaims(jwt);
+            final String mobile = claims.getSubject(); // Username is the mobile
 
             if (mobile != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Fetch the full UserDetails (DealerDetails) from our service
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(mobile);
+                UserDetails userDetails = resolvePrincipal(claims, mobile);
 
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+                if (userDetails != null && jwtUtil.validateToken(claims, userDetails.getUsername())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, // Passing the full object here
                             null,
@@ -68,4 +94,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetails resolvePrincipal(Claims claims, String mobile) {
+        DealerDetails fromToken = DealerDetails.fromClaims(claims);
+        if (fromToken != null && tokenRevocationService.isRevoked(fromToken.getId(), claims.getIssuedAt())) {
+            return null;
+        }
+        if (stateless && fromToken != null) {
+            return fromToken;
+        }
+        // Database mode, or a token without the userId claim
+        if (principalCache != null) {
+            return principalCache.get(mobile, userDetailsService::loadUserByUsername);
+        }
+        return userDetailsService.loadUserByUsername(mobile);
+    }
+}
@@ -1,6 +1,7 @@
 package com.tyreplus.dealer.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,15 +20,17 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:tyreplus-dealer-app-secret-key-for-jwt-token-generation-minimum-256-bits}")
-    private String secret;
-
-    @Value("${jwt.expiration:900000}") // 24 hours default
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
+
+    public JwtUtil(
+            @Value("${jwt.secret:tyreplus-dealer-app-secret-key-for-jwt-token-generation-minimum-256-bits}") String secret,
+            @Value("${jwt.expiration:900000}") long expiration) { // 15 minutes default
+        // Key and parser are immutable and thread-safe, so build them once instead of per call
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
     }
 
     public String generateToken(String username, String userId, String role) {
@@ -43,10 +46,20 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry and returns the claims.
+     * Callers that need several claims should parse once and read them from the result.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -60,25 +73,14 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Boolean validateToken(String token, String username) {
+        return validateToken(parseClaims(token), username);
     }
 
-    public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+    public boolean validateToken(Claims claims, String username) {
+        return username.equals(claims.getSubject()) && claims.getExpiration().after(new Date());
     }
 }
-
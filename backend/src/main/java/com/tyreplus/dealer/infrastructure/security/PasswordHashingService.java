@@ -0,0 +1,156 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.tyreplus.dealer.application.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs password hashing on a small pool of platform threads instead of the caller's thread.
+ *
+ * A BCrypt-12 hash is ~250ms of pure CPU. On virtual threads an unbounded login burst would
+ * occupy every carrier thread and stall all other endpoints, so hashing is capped at one
+ * pool thread per core with a bounded queue; the caller's virtual thread just parks on the
+ * result. When the queue is full, or a task waits longer than max-wait, the request is shed
+ * with a 503 instead of piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final BCryptPasswordEncoder legacyBcrypt;
+    private final String algorithm;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${tyreplus.security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${tyreplus.security.password-hashing.bcrypt-strength:12}") int bcryptStrength,
+            @Value("${tyreplus.security.password-hashing.threads:0}") int threads,
+            @Value("${tyreplus.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${tyreplus.security.password-hashing.max-wait:PT2S}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.legacyBcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        this.algorithm = algorithm;
+        this.maxWait = maxWait;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.gauge("password.hashing.queue.size", executor.getQueue(), BlockingQueue::size);
+        meterRegistry.gauge("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+        this.encodeTimer = latency(meterRegistry, "encode");
+        this.matchesTimer = latency(meterRegistry, "matches");
+        this.queueWait = Timer.builder("password.hashing.wait")
+                .description("Time a hashing task spent queued before a pool thread picked it up")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> submit(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Re-hash for a successful login whose stored hash is outdated. Skipped (empty) rather
+     * than shed when the pool is busy; the next login tries again.
+     */
+    public Optional<String> rehashIfNeeded(CharSequence rawPassword, String encodedPassword) {
+        if (!needsRehash(encodedPassword) || executor.getQueue().remainingCapacity() == 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(encode(rawPassword));
+        } catch (ServiceOverloadedException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * True when the hash was made with another algorithm or a lower BCrypt cost than configured.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword.startsWith("{")) {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        }
+        // Hashes stored before the {id} prefix are plain BCrypt; keep them unless the cost or algorithm changed
+        return !"bcrypt".equals(algorithm) || legacyBcrypt.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw overloaded();
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if it has not started; a running hash finishes and is discarded
+            future.cancel(false);
+            rejected.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many sign-in attempts in progress. Please retry shortly.", 1);
+    }
+
+    private static Timer latency(MeterRegistry registry, String operation) {
+        return Timer.builder("password.hashing.latency")
+                .description("Caller-observed time including queueing")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,31 +1,99 @@
 package com.tyreplus.dealer.infrastructure.security;
 
-/*
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
-*/
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Token-bucket rate limiting for /api, ahead of the Spring Security chain.
+ *
+ * OTP and AUTH endpoints are limited per mobile number or sign-in identifier taken from the
+ * JSON body, so one caller cannot use up another dealer's budget; requests without one
+ * (refresh, logout) fall back to the client IP. READ and WRITE are limited per dealer when
+ * the request carries a valid access token, otherwise per IP. The token is verified here
+ * once and the claims are handed to JwtAuthenticationFilter via a request attribute.
+ *
+ * The client IP is request.getRemoteAddr(), which is the caller's address once
+ * server.forward-headers-strategy resolves X-Forwarded-For from trusted proxies.
+ *
+ * Buckets live in a bounded Caffeine map (Bucket4j local buckets are lock-free), or in Redis
+ * when a ProxyManager is configured (tyreplus.ratelimit.redis.enabled=true).
+ */
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    // private final ProxyManager<String> proxyManager;
+    private static final String API_PREFIX = "/api/";
+    private static final String AUTH_PREFIX = "/api/v1/auth/";
+    // Auth bodies are a few fields; anything larger is not parsed and is limited by IP
+    private static final int MAX_PEEKED_BODY = 4 * 1024;
+    private static final List<String> IDENTIFIER_FIELDS = List.of("mobile", "identifier");
 
-    public RateLimitingFilter( /* ProxyManager<String> proxyManager */ ) {
-        // this.proxyManager = proxyManager;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final ProxyManager<String> proxyManager;
+    private final Cache<String, Bucket> localBuckets;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public RateLimitingFilter(JwtUtil jwtUtil,
+            ObjectMapper objectMapper,
+            ObjectProvider<ProxyManager<String>> proxyManager,
+            MeterRegistry meterRegistry,
+            @Value("${tyreplus.ratelimit.enabled:true}") boolean enabled,
+            @Value("${tyreplus.ratelimit.local.max-buckets:100000}") long maxBuckets) {
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.proxyManager = proxyManager.getIfAvailable();
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        // Idle buckets are full again after their longest refill period, so dropping them is lossless
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofMinutes(5))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX);
     }
 
     @Override
@@ -34,7 +102,160 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        // Rate Limiting Disabled
-        filterChain.doFilter(request, response);
+        RateLimitType type = classify(request);
+        if (type == RateLimitType.OTP || type == RateLimitType.AUTH) {
+            // Read the body here and replay it to the controller
+            request = new PeekedBodyRequest(request, MAX_PEEKED_BODY);
+        }
+        String key = type.name() + ":" + clientKey(request, type);
+
+        ConsumptionProbe probe = resolveBucket(key, type).tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            response.setHeader("X-RateLimit-Remaining", Long.toString(probe.getRemainingTokens()));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("ratelimit.rejected", "type", type.name()).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":429,\"error\":\"Too Many Requests\","
+                + "\"message\":\"Rate limit exceeded. Retry after " + retryAfterSeconds + " seconds.\"}");
+    }
+
+    private RateLimitType classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith(AUTH_PREFIX)) {
+            // Sending an OTP costs an SMS, so it gets the tightest budget
+            return uri.endsWith("/send-otp") ? RateLimitType.OTP : RateLimitType.AUTH;
+        }
+        return "GET".equals(request.getMethod()) ? RateLimitType.READ : RateLimitType.WRITE;
+    }
+
+    private String clientKey(HttpServletRequest request, RateLimitType type) {
+        if (request instanceof PeekedBodyRequest peeked) {
+            String identifier = identifier(peeked);
+            if (identifier != null) {
+                return "id:" + identifier;
+            }
+        }
+        if (type == RateLimitType.READ || type == RateLimitType.WRITE) {
+            String authHeader = request.getHeader("Authorization");
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                try {
+                    Claims claims = jwtUtil.parseClaims(authHeader.substring(7));
+                    request.setAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims);
+                    String userId = claims.get("userId", String.class);
+                    if (userId != null) {
+                        return "dealer:" + userId;
+                    }
+                } catch (RuntimeException e) {
+                    // Invalid or expired token: limit by IP; the security chain rejects it later
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private String identifier(PeekedBodyRequest request) {
+        byte[] body = request.peeked();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            for (String field : IDENTIFIER_FIELDS) {
+                JsonNode value = json.get(field);
+                if (value != null && value.isTextual() && !value.asText().isBlank()) {
+                    return value.asText().trim().toLowerCase(Locale.ROOT);
+                }
+            }
+        } catch (IOException e) {
+            // Not JSON: limit by IP; the controller rejects the body itself
+        }
+        return null;
+    }
+
+    private Bucket resolveBucket(String key, RateLimitType type) {
+        BucketConfiguration configuration = RateLimitPolicy.forType(type);
+        if (proxyManager != null) {
+            return proxyManager.builder().build(key, () -> configuration);
+        }
+        return localBuckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Buffers up to limit bytes of the body for the filter to inspect, then replays them
+     * followed by the unread rest, so the controller still sees the whole body.
+     */
+    private static final class PeekedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] peeked;
+        private final InputStream rest;
+
+        PeekedBodyRequest(HttpServletRequest request, int limit) throws IOException {
+            super(request);
+            InputStream in = request.getInputStream();
+            byte[] head = in.readNBytes(limit + 1);
+            // A body over the limit is passed through but not parsed
+            this.peeked = head.length <= limit ? head : null;
+            this.rest = new SequenceInputStream(new ByteArrayInputStream(head), in);
+        }
+
+        byte[] peeked() {
+            return peeked;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = rest.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = rest.read(b, off, len);
+                    finished = n < 0;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
     }
 }
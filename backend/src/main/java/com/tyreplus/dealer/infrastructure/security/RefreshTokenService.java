@@ -1,51 +1,76 @@
 package com.tyreplus.dealer.infrastructure.security;
 
-/*
-import org.springframework.data.redis.core.StringRedisTemplate;
-*/
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/*
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Duration;
-*/
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.UUID;
 
+/**
+ * Issues opaque refresh tokens. Only the SHA-256 hash of a token is handed to the
+ * RefreshTokenStore; the raw value exists only on the client.
+ */
 @Service
 public class RefreshTokenService {
 
-    // private final StringRedisTemplate redis;
-    private final java.util.Map<String, String> tokenStore = new java.util.HashMap<>(); // Temporary
+    public record Rotation(UUID dealerId, String refreshToken) {
+    }
+
+    private static final SecureRandom RANDOM = new SecureRandom();
 
-    private final long REFRESH_EXPIRY = 3;
+    private final RefreshTokenStore store;
+    private final Duration refreshExpiry;
 
-    public RefreshTokenService( /* StringRedisTemplate redis */ ) {
-        // this.redis = redis;
+    public RefreshTokenService(RefreshTokenStore store,
+            @Value("${tyreplus.security.refresh-tokens.ttl:P3D}") Duration refreshExpiry) {
+        this.store = store;
+        this.refreshExpiry = refreshExpiry;
     }
 
     public String create(UUID userId) {
-        String token = UUID.randomUUID().toString();
-        /*
-         * redis.opsForValue().set(
-         * "refresh:" + token,
-         * userId.toString(),
-         * Duration.ofDays(REFRESH_EXPIRY)
-         * );
-         */
-        tokenStore.put("refresh:" + token, userId.toString());
+        String token = newToken();
+        store.save(hash(token), userId, refreshExpiry);
         return token;
     }
 
     public UUID validate(String token) {
-        // String value = redis.opsForValue().get("refresh:" + token);
-        String value = tokenStore.get("refresh:" + token);
-        if (value == null) {
-            throw new RuntimeException("Invalid refresh token");
-        }
-        return UUID.fromString(value);
+        return store.find(hash(token))
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+    }
+
+    /**
+     * Exchanges a refresh token for a new one. The old token stops working in the same step,
+     * so a replayed token fails instead of minting a parallel session.
+     */
+    public Rotation rotate(String token) {
+        String next = newToken();
+        UUID dealerId = store.rotate(hash(token), hash(next), refreshExpiry)
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        return new Rotation(dealerId, next);
     }
 
     public void revoke(String token) {
-        // redis.delete("refresh:" + token);
-        tokenStore.remove("refresh:" + token);
+        store.delete(hash(token));
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,29 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage for refresh tokens, keyed by the token's SHA-256 hash (never the raw token).
+ * Selected with {@code tyreplus.security.refresh-tokens.store=jdbc|memory}.
+ */
+public interface RefreshTokenStore {
+
+    void save(String tokenHash, UUID dealerId, Duration ttl);
+
+    /**
+     * Returns the owning dealer if the token exists and has not expired.
+     */
+    Optional<UUID> find(String tokenHash);
+
+    /**
+     * Atomically removes {@code oldHash} and stores {@code newHash} for the same dealer.
+     * Of two concurrent rotations of the same token at most one succeeds.
+     *
+     * @return the owning dealer, or empty if the old token was unknown, expired or already rotated
+     */
+    Optional<UUID> rotate(String oldHash, String newHash, Duration ttl);
+
+    void delete(String tokenHash);
+}
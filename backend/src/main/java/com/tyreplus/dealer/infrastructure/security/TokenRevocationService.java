@@ -0,0 +1,81 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revocation check for stateless access tokens.
+ * Keeps a per-dealer "revoked before" watermark in dealers.tokens_revoked_before; any access
+ * token issued at or before it is rejected. The column is shared by every instance and
+ * survives restarts. Lookups are cached per dealer for
+ * {@code tyreplus.security.revocation.cache-ttl}, so the instance that revokes sees it at
+ * once and the others within that TTL, without a database read per request.
+ */
+@Service
+public class TokenRevocationService {
+
+    // Cached for dealers with no watermark, so they are not looked up again until expiry
+    private static final Instant NONE = Instant.EPOCH;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Cache<UUID, Instant> revokedBefore;
+
+    public TokenRevocationService(@Value("${tyreplus.security.revocation.cache-ttl:PT10S}") Duration cacheTtl) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * Invalidates every access token issued to the dealer so far.
+     * Clients holding a valid refresh token simply get a fresh access token.
+     */
+    @Transactional
+    public void revokeAll(UUID dealerId) {
+        // JWT iat has second precision, so a token from this same second counts as issued before
+        Instant watermark = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        entityManager.createNativeQuery("""
+                UPDATE dealers
+                SET tokens_revoked_before = GREATEST(tokens_revoked_before, to_timestamp(:watermark))
+                WHERE id = :dealerId
+                """)
+                .setParameter("watermark", watermark.getEpochSecond())
+                .setParameter("dealerId", dealerId)
+                .executeUpdate();
+        revokedBefore.put(dealerId, watermark);
+    }
+
+    public boolean isRevoked(UUID dealerId, Date issuedAt) {
+        Instant watermark = revokedBefore.get(dealerId, this::load);
+        if (watermark == NONE) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.toInstant().isAfter(watermark);
+    }
+
+    private Instant load(UUID dealerId) {
+        List<?> rows = entityManager.createNativeQuery("""
+                SELECT CAST(EXTRACT(EPOCH FROM tokens_revoked_before) AS BIGINT)
+                FROM dealers
+                WHERE id = :dealerId AND tokens_revoked_before IS NOT NULL
+                """)
+                .setParameter("dealerId", dealerId)
+                .getResultList();
+        return rows.isEmpty() ? NONE : Instant.ofEpochSecond(((Number) rows.get(0)).longValue());
+    }
+}
@@ -0,0 +1,194 @@
+package com.tyreplus.dealer.infrastructure.sms;
+
+import com.tyreplus.dealer.application.exception.ServiceOverloadedException;
+import com.tyreplus.dealer.application.service.SmsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator that takes SMS sending off the request thread.
+ *
+ * sendSms only enqueues; virtual-thread workers drain the bounded queue in batches of up to
+ * batch-size and hand each batch to the delegate gateway, retrying the undelivered messages
+ * with exponential backoff and jitter. Inside a transaction the message is enqueued after commit, so an OTP
+ * that rolls back is never sent. A full queue gets the caller a ServiceOverloadedException
+ * (503) rather than waiting on the gateway: checked before commit inside a transaction, and
+ * after offer-timeout outside one. A message that still finds the queue full after commit is
+ * logged and counted as rejected.
+ *
+ * Messages still queued at shutdown get until shutdown-timeout to go out; the queue is not
+ * durable, so a crash loses them (the user asks for a new OTP).
+ */
+@Slf4j
+public class AsyncSmsService implements SmsService, AutoCloseable {
+
+    public record Settings(int capacity, int workers, int batchSize, int maxAttempts,
+            Duration initialBackoff, Duration offerTimeout, Duration shutdownTimeout) {
+    }
+
+    private final SmsService gateway;
+    private final Settings settings;
+    private final BlockingQueue<Message> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter retried;
+    private final Counter rejected;
+    private final Timer batchTimer;
+
+    public AsyncSmsService(SmsService gateway, Settings settings, MeterRegistry meterRegistry) {
+        this.gateway = gateway;
+        this.settings = settings;
+        this.queue = new ArrayBlockingQueue<>(settings.capacity());
+
+        meterRegistry.gauge("sms.queue.size", queue, BlockingQueue::size);
+        this.sent = messages(meterRegistry, "sent");
+        this.failed = messages(meterRegistry, "failed");
+        this.rejected = messages(meterRegistry, "rejected");
+        this.retried = Counter.builder("sms.retries")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("sms.batch")
+                .description("Gateway submission time per batch, including retries")
+                .register(meterRegistry);
+
+        for (int i = 0; i < settings.workers(); i++) {
+            workers.add(Thread.ofVirtual().name("sms-worker-" + i).start(this::drain));
+        }
+    }
+
+    @Override
+    public void sendSms(String mobile, String message) {
+        Message sms = new Message(mobile, message);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!offer(sms)) {
+                throw overloaded();
+            }
+            return;
+        }
+        // Shed load while the caller can still roll back, so a full queue never leaves a
+        // committed OTP that will not be sent
+        if (queue.remainingCapacity() == 0) {
+            rejected.increment();
+            throw overloaded();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Too late to fail the request: the row is committed and the user can resend
+                if (!offer(sms)) {
+                    log.warn("SMS queue still full after commit, dropping one message");
+                }
+            }
+        });
+    }
+
+    private boolean offer(Message sms) {
+        boolean accepted;
+        try {
+            accepted = queue.offer(sms, settings.offerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejected.increment();
+        }
+        return accepted;
+    }
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("SMS service is busy. Please try again shortly.", 1);
+    }
+
+    private void drain() {
+        List<Message> batch = new ArrayList<>(settings.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, settings.batchSize() - 1);
+                batchTimer.record(() -> submit(batch));
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void submit(List<Message> batch) {
+        List<Message> pending = batch;
+        long backoffMillis = settings.initialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            String cause;
+            try {
+                List<Message> undelivered = gateway.sendBatch(pending);
+                sent.increment(pending.size() - undelivered.size());
+                if (undelivered.isEmpty()) {
+                    return;
+                }
+                cause = undelivered.size() + " of " + pending.size() + " not delivered";
+                // Only what did not go out is retried, so nobody gets the same OTP twice
+                pending = List.copyOf(undelivered);
+            } catch (RuntimeException e) {
+                cause = e.getMessage();
+            }
+            if (attempt >= settings.maxAttempts()) {
+                failed.increment(pending.size());
+                log.error("Giving up on {} SMS after {} attempts: {}", pending.size(), attempt, cause);
+                return;
+            }
+            retried.increment();
+            log.warn("SMS batch of {} failed (attempt {}), retrying: {}", pending.size(), attempt, cause);
+            try {
+                // Full jitter keeps workers from retrying against the gateway in lockstep
+                Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.increment(pending.size());
+                return;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + settings.shutdownTimeout().toNanos();
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                worker.interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Dropping {} queued SMS at shutdown", queue.size());
+        }
+    }
+
+    private static Counter messages(MeterRegistry registry, String result) {
+        return Counter.builder("sms.messages")
+                .tag("result", result)
+                .register(registry);
+    }
+}
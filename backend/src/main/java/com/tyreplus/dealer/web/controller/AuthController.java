@@ -102,7 +102,7 @@ public class AuthController {
                                 .body(result);
         }
 
-        @Operation(summary = "Refresh Token", description = "Uses a valid Refresh Token (cookie or header) to issue a new Access Token.", responses = {
+        @Operation(summary = "Refresh Token", description = "Uses a valid Refresh Token (cookie or header) to issue a new Access Token and a rotated Refresh Token. The presented Refresh Token is single-use.", responses = {
                         @ApiResponse(responseCode = "200", description = "Tokens refreshed"),
                         @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token")
         })
@@ -117,7 +117,11 @@ public class AuthController {
                         throw new IllegalArgumentException("Refresh token missing");
                 }
 
-                return ResponseEntity.ok(authService.refresh(refreshToken));
+                LoginResponse result = authService.refresh(refreshToken);
+                ResponseCookie refreshCookie = buildRefreshCookie(result.refreshToken());
+                return ResponseEntity.ok()
+                                .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
+                                .body(result);
         }
 
         @Operation(summary = "Logout", description = "Revokes the refresh token and clears the cookie.", responses = {
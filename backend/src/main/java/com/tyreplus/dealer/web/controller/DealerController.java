@@ -1,5 +1,6 @@
 package com.tyreplus.dealer.web.controller;
 
+import com.tyreplus.dealer.application.dto.DailyPurchasesResponse;
 import com.tyreplus.dealer.application.dto.DashboardResponse;
 import com.tyreplus.dealer.application.dto.DealerProfileResponse;
 import com.tyreplus.dealer.application.dto.UpdateDealerProfileRequest;
@@ -74,4 +75,18 @@ public class DealerController {
             @AuthenticationPrincipal DealerDetails dealerDetails) {
         return ResponseEntity.ok(dashboardService.getDashboard(dealerDetails.getId()));
     }
+
+    /**
+     * Get purchases per day for charts.
+     * GET /api/v1/dealer/dashboard/purchases?days=30
+     */
+    @Operation(summary = "Get Daily Purchases", description = "Lead purchases and credits spent per day for the last N days (max 366), including today, on the dealer's time zone.", responses = {
+            @ApiResponse(responseCode = "200", description = "Daily purchases retrieved")
+    })
+    @GetMapping("/dashboard/purchases")
+    public ResponseEntity<DailyPurchasesResponse> getDailyPurchases(
+            @AuthenticationPrincipal DealerDetails dealerDetails,
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(dashboardService.getDailyPurchases(dealerDetails.getId(), days));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.tyreplus.dealer.web.controller;
 
 import com.tyreplus.dealer.application.dto.LeadDetailsResponse;
+import com.tyreplus.dealer.application.dto.LeadFeedResponse;
 import com.tyreplus.dealer.application.service.LeadDiscoveryService;
 import com.tyreplus.dealer.application.service.LeadPurchaseService;
 import com.tyreplus.dealer.application.service.LeadStatusUpdateService;
 import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventBroadcaster;
 import com.tyreplus.dealer.infrastructure.security.DealerDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,9 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -27,12 +31,14 @@ public class LeadController {
     private final LeadPurchaseService purchaseService;
     private final LeadStatusUpdateService statusService;
     private final LeadDiscoveryService discoveryService;
+    private final LeadEventBroadcaster leadEventBroadcaster;
 
     public LeadController(LeadPurchaseService purchaseService, LeadStatusUpdateService statusService,
-            LeadDiscoveryService discoveryService) {
+            LeadDiscoveryService discoveryService, LeadEventBroadcaster leadEventBroadcaster) {
         this.purchaseService = purchaseService;
         this.statusService = statusService;
         this.discoveryService = discoveryService;
+        this.leadEventBroadcaster = leadEventBroadcaster;
     }
 
     @Operation(summary = "Get Leads", description = "Retrieves a paginated list of leads based on filter (All, Purchased, New) and sort order.", responses = {
@@ -48,6 +54,28 @@ public class LeadController {
         return ResponseEntity.ok(discoveryService.getLeads(dealer.getId(), filter, sort, page, size));
     }
 
+    @Operation(summary = "Get Lead Feed", description = "Cursor-paginated lead feed. Pass an empty 'after' for the first page, then the returned nextCursor. No total count is computed.", responses = {
+            @ApiResponse(responseCode = "200", description = "Leads retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping(params = "after")
+    public ResponseEntity<LeadFeedResponse> getLeadFeed(
+            @AuthenticationPrincipal DealerDetails dealer,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor; empty for the first page") @RequestParam String after,
+            @Parameter(description = "Filter type: 'All', 'Purchased', or 'New'") @RequestParam(defaultValue = "All") String filter,
+            @Parameter(description = "Sort order: 'date_desc' or 'date_asc'") @RequestParam(defaultValue = "date_desc") String sort,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(discoveryService.getLeadFeed(dealer.getId(), filter, sort, after, size));
+    }
+
+    @Operation(summary = "Stream Lead Feed", description = "Server-sent events for the live feed: 'lead.created' carries a new lead, 'lead.sold' carries the id of a lead bought by another dealer, 'lead.expired' the id of a lead that aged out of the feed. On (re)connect, load the first feed page, then apply events.", responses = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeads(@AuthenticationPrincipal DealerDetails dealer) {
+        return leadEventBroadcaster.subscribe(dealer.getId());
+    }
+
     @Operation(summary = "Get Lead Details", description = "Retrieves detailed information about a specific lead.", responses = {
             @ApiResponse(responseCode = "200", description = "Lead details retrieved"),
             @ApiResponse(responseCode = "404", description = "Lead not found")
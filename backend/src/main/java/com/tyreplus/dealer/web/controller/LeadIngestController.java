@@ -0,0 +1,101 @@
+package com.tyreplus.dealer.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tyreplus.dealer.application.service.LeadIngestionService;
+import com.tyreplus.dealer.infrastructure.ingest.LeadImportReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+
+@RestController
+@RequestMapping("/api/v1/ingest")
+@Tag(name = "Lead Ingestion", description = "Bulk import of partner lead feeds")
+public class LeadIngestController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final LeadIngestionService ingestionService;
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor executor;
+    private final byte[] apiKey;
+    private final Duration timeout;
+
+    public LeadIngestController(LeadIngestionService ingestionService, ObjectMapper objectMapper,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+            @Value("${tyreplus.ingest.api-key:}") String apiKey,
+            @Value("${tyreplus.ingest.timeout:PT1H}") Duration timeout) {
+        this.ingestionService = ingestionService;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+        this.timeout = timeout;
+    }
+
+    @Operation(summary = "Import Leads", description = "Streams a CSV (header row required) or NDJSON feed into the lead pool. The response is NDJSON: one progress line per committed batch, then a final line with done=true. Invalid rows are reported and skipped. The stream is aborted after tyreplus.ingest.timeout (default 1 hour); batches committed by then are kept.", responses = {
+            @ApiResponse(responseCode = "200", description = "Import started; progress is streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported content type or missing CSV columns"),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong X-Ingest-Key")
+    })
+    @PostMapping(value = "/leads", consumes = { "text/csv", "application/x-ndjson" }, produces = "application/x-ndjson")
+    public ResponseEntity<ResponseBodyEmitter> importLeads(
+            @RequestHeader(value = "X-Ingest-Key", required = false) String key,
+            HttpServletRequest request) throws IOException {
+        if (!authorized(key)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        LeadImportReader.Format format = LeadImportReader.Format.fromContentType(request.getContentType());
+        // Opened here so a bad CSV header is rejected with 400 before streaming starts
+        LeadImportReader reader = LeadImportReader.open(format,
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), objectMapper);
+
+        // The emitter carries its own timeout, so only this endpoint gets the long one
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        executor.execute(() -> {
+            try (reader) {
+                ingestionService.ingest(reader, progress -> sendLine(emitter, progress));
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(emitter);
+    }
+
+    private boolean authorized(String key) {
+        // No key configured means the endpoint is disabled
+        return apiKey.length > 0 && key != null
+                && MessageDigest.isEqual(apiKey, key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void sendLine(ResponseBodyEmitter emitter, Object progress) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(progress);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            // Sent as bytes so no converter re-encodes it; the emitter flushes every send
+            emitter.send(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.tyreplus.dealer.web.controller;
 
 import com.tyreplus.dealer.application.service.TyreService;
 import com.tyreplus.dealer.domain.entity.Tyre;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchCriteria;
+import com.tyreplus.dealer.domain.valueobject.TyreSearchResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,40 @@ public class TyreController {
         return ResponseEntity.ok(tyreService.searchTyres(brand, size, pattern));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search Tyre Catalog", description = "Paged, cheapest-first catalog search with brand, size, "
+            + "pattern and price range facet counts. Size accepts prefixes and one-character typos")
+    public ResponseEntity<TyreSearchResult> searchCatalog(
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) String pattern,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(tyreService.searchCatalog(
+                new TyreSearchCriteria(brand, size, pattern, minPrice, maxPrice, page, pageSize)));
+    }
+
+    @GetMapping("/fitment")
+    @Operation(summary = "Get Fitting Tyres", description = "Tyres with the same width, aspect ratio and rim as the "
+            + "given size (e.g. 195/55R16), any load or speed rating, cheapest first")
+    public ResponseEntity<List<Tyre>> getFittingTyres(@RequestParam String size) {
+        return ResponseEntity.ok(tyreService.findFittingTyres(size));
+    }
+
+    @GetMapping("/by-size")
+    @Operation(summary = "Get Tyres By Size Range", description = "Tyres for a rim diameter (inches) and/or "
+            + "a width range (mm), ordered by size then price, one page at a time (pageSize up to 100)")
+    public ResponseEntity<List<Tyre>> getTyresBySizeRange(
+            @RequestParam(required = false) Integer rimDiameter,
+            @RequestParam(required = false) Integer minWidth,
+            @RequestParam(required = false) Integer maxWidth,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(tyreService.findTyresBySizeRange(rimDiameter, minWidth, maxWidth, page, pageSize));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get Tyre Details", description = "Get full details of a specific tyre")
     public ResponseEntity<Tyre> getTyreDetails(@PathVariable UUID id) {
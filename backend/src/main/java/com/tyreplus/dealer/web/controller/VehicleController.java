@@ -1,18 +1,23 @@
 package com.tyreplus.dealer.web.controller;
 
 import com.tyreplus.dealer.application.service.VehicleService;
+import com.tyreplus.dealer.domain.entity.Tyre;
 import com.tyreplus.dealer.domain.entity.UserVehicle;
 import com.tyreplus.dealer.infrastructure.security.DealerDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/vehicles")
@@ -20,37 +25,50 @@ import java.util.UUID;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final CacheControl masterDataCacheControl;
 
-    public VehicleController(VehicleService vehicleService) {
+    public VehicleController(VehicleService vehicleService,
+            @Value("${tyreplus.vehicles.catalog.max-age:PT5M}") Duration maxAge) {
         this.vehicleService = vehicleService;
+        this.masterDataCacheControl = CacheControl.maxAge(maxAge).cachePublic();
     }
 
     // --- Master Data ---
+    // Tagged with the catalog version: Spring answers a matching If-None-Match with 304
 
     @GetMapping("/makes")
     @Operation(summary = "Get Makes", description = "Get list of vehicle makes by type (2W/4W)")
     public ResponseEntity<Map<String, List<String>>> getMakes(@RequestParam String type) {
-        return ResponseEntity.ok(Map.of("makes", vehicleService.getMakes(type)));
+        return masterData("makes", () -> vehicleService.getMakes(type));
     }
 
     @GetMapping("/models")
     @Operation(summary = "Get Models", description = "Get list of vehicle models by make")
     public ResponseEntity<Map<String, List<String>>> getModels(@RequestParam String type, @RequestParam String make) {
-        return ResponseEntity.ok(Map.of("models", vehicleService.getModels(type, make)));
+        return masterData("models", () -> vehicleService.getModels(type, make));
     }
 
     @GetMapping("/variants")
     @Operation(summary = "Get Variants", description = "Get list of variants by model")
     public ResponseEntity<Map<String, List<String>>> getVariants(@RequestParam String type, @RequestParam String make,
             @RequestParam String model) {
-        return ResponseEntity.ok(Map.of("variants", vehicleService.getVariants(type, make, model)));
+        return masterData("variants", () -> vehicleService.getVariants(type, make, model));
     }
 
     @GetMapping("/tyre-sizes")
     @Operation(summary = "Get Tyre Sizes", description = "Get compatible tyre sizes for a variant")
     public ResponseEntity<Map<String, List<String>>> getTyreSizes(@RequestParam String make, @RequestParam String model,
             @RequestParam String variant) {
-        return ResponseEntity.ok(Map.of("sizes", vehicleService.getTyreSizes(make, model, variant)));
+        return masterData("sizes", () -> vehicleService.getTyreSizes(make, model, variant));
+    }
+
+    private ResponseEntity<Map<String, List<String>>> masterData(String key, Supplier<List<String>> lookup) {
+        // Version first: if a reload lands in between, the client just revalidates once more
+        String etag = "\"" + vehicleService.getCatalogVersion() + "\"";
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(masterDataCacheControl)
+                .body(Map.of(key, lookup.get()));
     }
 
     // --- Garage ---
@@ -68,6 +86,12 @@ public class VehicleController {
         return ResponseEntity.ok(vehicleService.addUserVehicle(dealer.getId(), vehicle));
     }
 
+    @GetMapping("/{id}/tyres")
+    @Operation(summary = "Get Fitting Tyres", description = "Tyres that fit a garage vehicle's tyre size", security = @SecurityRequirement(name = "Bearer Authentication"))
+    public ResponseEntity<List<Tyre>> getFittingTyres(@AuthenticationPrincipal DealerDetails dealer, @PathVariable UUID id) {
+        return ResponseEntity.ok(vehicleService.getFittingTyres(dealer.getId(), id));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete Vehicle", description = "Remove a vehicle from garage", security = @SecurityRequirement(name = "Bearer Authentication"))
     public ResponseEntity<Void> deleteVehicle(@AuthenticationPrincipal DealerDetails dealer, @PathVariable UUID id) {
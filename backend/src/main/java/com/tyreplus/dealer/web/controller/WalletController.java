@@ -4,6 +4,7 @@ import com.tyreplus.dealer.application.dto.*;
 import com.tyreplus.dealer.application.service.WalletService;
 import com.tyreplus.dealer.infrastructure.security.DealerDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,7 +35,7 @@ public class WalletController {
      * Get wallet details.
      * GET /api/v1/dealer/wallet
      */
-    @Operation(summary = "Get Wallet Balance", description = "Retrieves the current wallet balance (Purchased + Bonus) and transaction history.", responses = {
+    @Operation(summary = "Get Wallet Balance", description = "Retrieves the current wallet balance (Purchased + Bonus). Transaction history is served by /wallet/transactions.", responses = {
             @ApiResponse(responseCode = "200", description = "Wallet details retrieved"),
             @ApiResponse(responseCode = "404", description = "Wallet not found")
     })
@@ -44,6 +45,22 @@ public class WalletController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Get transaction history.
+     * GET /api/v1/dealer/wallet/transactions
+     */
+    @Operation(summary = "Get Wallet Transactions", description = "Cursor-paginated transaction history, newest first. Omit 'after' for the first page, then pass the returned nextCursor. No total count is computed.", responses = {
+            @ApiResponse(responseCode = "200", description = "Transactions retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/wallet/transactions")
+    public ResponseEntity<TransactionPageResponse> getTransactions(
+            @AuthenticationPrincipal DealerDetails dealerDetails,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor; omit for the first page") @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(walletService.getTransactions(dealerDetails.getId(), after, size));
+    }
+
     /**
      * Get available packages.
      * GET /api/v1/dealer/packages
@@ -75,12 +92,12 @@ public class WalletController {
      * verify payment.
      * POST /api/v1/dealer/recharge/verify
      */
-    @Operation(summary = "Verify Payment", description = "Verifies the Razorpay payment signature and credits the wallet if successful.", responses = {
+    @Operation(summary = "Verify Payment", description = "Verifies the Razorpay payment signature and credits the wallet if successful. Returns the new balances and the credit transaction.", responses = {
             @ApiResponse(responseCode = "200", description = "Recharge successful"),
             @ApiResponse(responseCode = "400", description = "Verification failed")
     })
     @PostMapping("/recharge/verify")
-    public ResponseEntity<WalletResponse> verify(@AuthenticationPrincipal DealerDetails dealer,
+    public ResponseEntity<RechargeResponse> verify(@AuthenticationPrincipal DealerDetails dealer,
             @RequestBody PaymentVerificationRequest request) {
         return ResponseEntity.ok(walletService.completeRecharge(dealer.getId(), request));
     }
@@ -93,10 +110,10 @@ public class WalletController {
             @ApiResponse(responseCode = "200", description = "Recharge successful"),
     })
     @PostMapping("/wallet/testRecharge")
-    public ResponseEntity<WalletResponse> testRecharge(
+    public ResponseEntity<RechargeResponse> testRecharge(
             @AuthenticationPrincipal DealerDetails dealerDetails,
             @Valid @RequestBody RechargeRequest request) {
-        WalletResponse response = walletService.testRecharge(dealerDetails.getId(), request);
+        RechargeResponse response = walletService.testRecharge(dealerDetails.getId(), request);
         return ResponseEntity.ok(response);
     }
 }
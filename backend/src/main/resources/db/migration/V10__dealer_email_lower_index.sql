@@ -0,0 +1,3 @@
+-- Sign-in matches emails case-insensitively on lower(email); without this the lookup is a
+-- sequential scan. Phone sign-ins use the unique index on phone_number.
+CREATE INDEX idx_dealers_email_lower ON dealers (lower(email));
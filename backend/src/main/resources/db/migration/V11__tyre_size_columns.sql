@@ -0,0 +1,35 @@
+-- Numeric width (mm), aspect ratio (0 for inch-width sizes) and rim diameter (inches)
+-- parsed out of the free-text tyre size column, so fitment and range lookups can use
+-- B-tree indexes instead of string equality. Unrecognised sizes give NULLs, as do
+-- dimensions outside the ranges TyreSize accepts. The load/speed suffix is matched but
+-- otherwise ignored. The patterns and ranges mirror TyreSize (domain.valueobject); keep
+-- the two in step.
+CREATE FUNCTION tyre_size_dimensions(size TEXT) RETURNS INTEGER[]
+    LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+    SELECT CASE
+               WHEN dims[1] BETWEEN 1 AND 1023 AND dims[2] BETWEEN 0 AND 127 AND dims[3] BETWEEN 1 AND 63
+                   THEN dims
+           END
+    FROM (SELECT CASE
+                     WHEN metric IS NOT NULL THEN ARRAY[metric[1]::int, metric[2]::int, metric[4]::int]
+                     WHEN inch IS NOT NULL THEN ARRAY[round(inch[1]::numeric * 25.4)::int, 0, inch[3]::int]
+                 END AS dims
+          FROM (SELECT regexp_match(upper(btrim(size)),
+                           '^(\d{2,3})\s*/\s*(\d{2,3})\s*(ZR|R|D|B|-)\s*(\d{1,2})(?:\s*(\d{2,3})\s*(A[1-8]|[A-Z]))?$') AS metric,
+                       regexp_match(upper(btrim(size)),
+                           '^(\d{1,2}\.\d{1,2})\s*(R|D|B|-)\s*(\d{1,2})(?:\s*(\d{2,3})\s*(A[1-8]|[A-Z]))?$') AS inch) parts) parsed
+$$;
+
+-- Stored generated columns: existing rows are backfilled by the ALTER, and every later
+-- insert or update keeps them in step, whichever path writes the row. Only tyres gets
+-- them; vehicle sizes are parsed in Java and looked up against these.
+ALTER TABLE tyres
+    ADD COLUMN size_width INTEGER GENERATED ALWAYS AS ((tyre_size_dimensions(size))[1]) STORED,
+    ADD COLUMN size_aspect_ratio INTEGER GENERATED ALWAYS AS ((tyre_size_dimensions(size))[2]) STORED,
+    ADD COLUMN size_rim_diameter INTEGER GENERATED ALWAYS AS ((tyre_size_dimensions(size))[3]) STORED;
+
+-- Fitment (rim + width + aspect) and rim-only lookups share the composite index; width
+-- ranges across rims get their own.
+CREATE INDEX idx_tyres_size_rim_width ON tyres (size_rim_diameter, size_width, size_aspect_ratio);
+CREATE INDEX idx_tyres_size_width ON tyres (size_width);
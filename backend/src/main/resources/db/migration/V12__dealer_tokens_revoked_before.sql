@@ -0,0 +1,3 @@
+-- Access tokens issued at or before this instant are rejected (logout, password change).
+-- Kept on the dealer so every instance sees it and it survives restarts; NULL = none revoked.
+ALTER TABLE dealers ADD COLUMN tokens_revoked_before TIMESTAMPTZ;
@@ -0,0 +1,7 @@
+-- Keyset (seek) pagination for the lead feed.
+-- The feed only ever shows unpurchased leads, so the indexes are partial and stay small
+-- as purchased leads accumulate. (created_at, id) gives a total order for the cursor.
+-- A status filter seeks on the first index; the default "All" feed has no status
+-- predicate to lead with, so it gets its own index on the sort key alone.
+CREATE INDEX idx_leads_feed ON leads (status, created_at, id) WHERE purchased_by_dealer_id IS NULL;
+CREATE INDEX idx_leads_feed_all ON leads (created_at, id) WHERE purchased_by_dealer_id IS NULL;
@@ -0,0 +1,3 @@
+-- The (lead_id, dealer_id) primary key cannot serve "all leads skipped by this dealer".
+-- This index lets the feed's NOT EXISTS anti-join probe or hash a dealer's skips directly.
+CREATE INDEX idx_lead_skips_dealer ON lead_skips (dealer_id, lead_id);
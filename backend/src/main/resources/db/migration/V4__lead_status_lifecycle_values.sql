@@ -0,0 +1,6 @@
+-- Align the lead_status enum with the domain LeadStatus lifecycle.
+-- The atomic purchase writes BOUGHT directly in SQL; expiry/cancellation need the rest.
+ALTER TYPE lead_status ADD VALUE IF NOT EXISTS 'BOUGHT';
+ALTER TYPE lead_status ADD VALUE IF NOT EXISTS 'EXPIRED';
+ALTER TYPE lead_status ADD VALUE IF NOT EXISTS 'CANCELLED';
+ALTER TYPE lead_status ADD VALUE IF NOT EXISTS 'CONVERTED';
@@ -0,0 +1,11 @@
+-- Refresh tokens, stored as SHA-256 hashes so a leaked table cannot be replayed.
+-- Rotation deletes the presented hash and inserts its successor in one statement.
+CREATE TABLE refresh_tokens (
+    token_hash CHAR(64) PRIMARY KEY,
+    dealer_id UUID NOT NULL REFERENCES dealers(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Serves the periodic purge of expired tokens.
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,3 @@
+-- Keyset pagination for a dealer's wallet history, newest first.
+-- Postgres scans this index backwards from the cursor, so a page reads only its own rows.
+CREATE INDEX idx_transactions_dealer_created ON transactions (dealer_id, created_at, id);
@@ -0,0 +1,25 @@
+-- Per-dealer dashboard counters, maintained by the purchase and status-change paths
+-- so the dashboard reads one row by primary key instead of counting leads.
+CREATE TABLE dealer_stats (
+    dealer_id UUID PRIMARY KEY REFERENCES dealers(id) ON DELETE CASCADE,
+    total_purchased BIGINT NOT NULL DEFAULT 0,
+    converted_count BIGINT NOT NULL DEFAULT 0,
+    -- purchases_today counts purchases made on stats_day; a new day resets it on first purchase
+    purchases_today INTEGER NOT NULL DEFAULT 0,
+    stats_day DATE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO dealer_stats (dealer_id, total_purchased, converted_count, purchases_today, stats_day)
+SELECT purchased_by_dealer_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status = 'CONVERTED'),
+       COUNT(*) FILTER (WHERE purchased_at >= CURRENT_DATE),
+       CURRENT_DATE
+FROM leads
+WHERE purchased_by_dealer_id IS NOT NULL
+GROUP BY purchased_by_dealer_id;
+
+-- Serves the dashboard's "recent purchases" top-10 without scanning all leads.
+CREATE INDEX idx_leads_purchased_by ON leads (purchased_by_dealer_id, created_at)
+    WHERE purchased_by_dealer_id IS NOT NULL;
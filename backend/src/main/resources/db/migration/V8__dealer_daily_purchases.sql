@@ -0,0 +1,36 @@
+-- Each dealer's calendar: "today" and daily buckets are cut in this zone, not the server's.
+ALTER TABLE dealers ADD COLUMN time_zone VARCHAR(64) NOT NULL DEFAULT 'Asia/Kolkata';
+
+-- Purchases per dealer per local day, maintained by the purchase statement.
+-- Chart ranges read (dealer_id, day) off the primary key, one row per day.
+CREATE TABLE dealer_daily_purchases (
+    dealer_id UUID NOT NULL REFERENCES dealers(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    purchases INTEGER NOT NULL DEFAULT 0,
+    credits_spent BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (dealer_id, day)
+);
+
+-- Rebuilding or auditing the rollup scans a dealer's purchases by time.
+CREATE INDEX idx_leads_purchased_at ON leads (purchased_by_dealer_id, purchased_at)
+    WHERE purchased_by_dealer_id IS NOT NULL;
+
+-- purchased_at holds application-local wall time; the JDBC session zone is the application's.
+INSERT INTO dealer_daily_purchases (dealer_id, day, purchases, credits_spent)
+SELECT l.purchased_by_dealer_id,
+       CAST((l.purchased_at AT TIME ZONE current_setting('TimeZone')) AT TIME ZONE d.time_zone AS date),
+       COUNT(*),
+       SUM(l.lead_cost)
+FROM leads l
+JOIN dealers d ON d.id = l.purchased_by_dealer_id
+WHERE l.purchased_at IS NOT NULL
+GROUP BY 1, 2;
+
+-- Re-cut dealer_stats' "today" counter on the dealer's calendar.
+UPDATE dealer_stats s
+SET stats_day = CAST(now() AT TIME ZONE d.time_zone AS date),
+    purchases_today = COALESCE((SELECT p.purchases FROM dealer_daily_purchases p
+                                WHERE p.dealer_id = s.dealer_id
+                                  AND p.day = CAST(now() AT TIME ZONE d.time_zone AS date)), 0)
+FROM dealers d
+WHERE d.id = s.dealer_id;
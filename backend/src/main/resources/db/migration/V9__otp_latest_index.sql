@@ -0,0 +1,8 @@
+-- OTP validation only ever reads the newest OTP for a mobile (LIMIT 1), so the index leads
+-- with mobile and is ordered newest first. It also serves the (mobile, code) lookup, which
+-- is why idx_otp_lookup can go.
+CREATE INDEX idx_otps_mobile_created ON otps (mobile, created_at DESC);
+DROP INDEX IF EXISTS idx_otp_lookup;
+
+-- The purge job deletes by expiry in small batches.
+CREATE INDEX IF NOT EXISTS idx_otp_expires_at ON otps (expires_at);
@@ -0,0 +1,143 @@
+package com.tyreplus.dealer.application.service;
+
+import com.tyreplus.dealer.domain.entity.Dealer;
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.entity.Wallet;
+import com.tyreplus.dealer.domain.repository.DealerRepository;
+import com.tyreplus.dealer.domain.repository.LeadRepository;
+import com.tyreplus.dealer.domain.repository.WalletRepository;
+import com.tyreplus.dealer.domain.valueobject.Address;
+import com.tyreplus.dealer.domain.valueobject.BusinessHours;
+import com.tyreplus.dealer.domain.valueobject.ContactDetails;
+import com.tyreplus.dealer.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements each lead use case issues, so an N+1 or an extra
+ * read-before-write shows up as a failing test instead of a slow endpoint.
+ * Runs against PostgreSQL because the purchase and feed queries are native SQL.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.tyreplus.dealer.support.SqlStatementCounter")
+@Testcontainers(disabledWithoutDocker = true)
+class LeadUseCaseStatementCountTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private LeadDiscoveryService leadDiscoveryService;
+    @Autowired
+    private LeadPurchaseService leadPurchaseService;
+    @Autowired
+    private LeadStatusUpdateService leadStatusUpdateService;
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private DealerRepository dealerRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Test
+    void skipIsASingleInsert() {
+        UUID dealerId = newDealer(0);
+        UUID leadId = newLeads(1).get(0);
+
+        assertThat(SqlStatementCounter.count(() -> leadDiscoveryService.skipLead(leadId, dealerId))).isEqualTo(1);
+    }
+
+    @Test
+    void purchaseIsASingleStatement() {
+        UUID dealerId = newDealer(1_000);
+        UUID leadId = newLeads(1).get(0);
+
+        assertThat(SqlStatementCounter.count(() -> leadPurchaseService.buyLead(leadId, dealerId))).isEqualTo(1);
+    }
+
+    @Test
+    void feedPageIsOneQueryWhateverItsSize() {
+        UUID dealerId = newDealer(0);
+        newLeads(30);
+
+        int small = SqlStatementCounter.count(() -> leadDiscoveryService.getLeadFeed(dealerId, "All", "date_desc", null, 5));
+        int large = SqlStatementCounter.count(() -> leadDiscoveryService.getLeadFeed(dealerId, "All", "date_desc", null, 25));
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void conversionIsLockedReadUpdateAndCounterBump() {
+        UUID dealerId = newDealer(1_000);
+        UUID leadId = newLeads(1).get(0);
+        leadPurchaseService.buyLead(leadId, dealerId);
+
+        // SELECT ... FOR UPDATE, UPDATE leads, INSERT ... ON CONFLICT into dealer_stats
+        assertThat(SqlStatementCounter.count(
+                () -> leadStatusUpdateService.updateStatus(leadId, dealerId, LeadStatus.CONVERTED))).isEqualTo(3);
+    }
+
+    @Test
+    void dashboardCostDoesNotGrowWithPurchases() {
+        UUID fewPurchases = newDealer(1_000);
+        UUID manyPurchases = newDealer(1_000);
+        List<UUID> leads = newLeads(11);
+        leadPurchaseService.buyLead(leads.get(0), fewPurchases);
+        leads.subList(1, leads.size()).forEach(leadId -> leadPurchaseService.buyLead(leadId, manyPurchases));
+
+        int few = SqlStatementCounter.count(() -> dashboardService.getDashboard(fewPurchases));
+        int many = SqlStatementCounter.count(() -> dashboardService.getDashboard(manyPurchases));
+
+        assertThat(many).isEqualTo(few);
+    }
+
+    private UUID newDealer(int credits) {
+        String phone = String.valueOf(6_000_000_000L + (long) (Math.random() * 3_000_000_000L));
+        Dealer dealer = dealerRepository.save(Dealer.builder()
+                .businessName("Statement Count Tyres")
+                .ownerName("Test Owner")
+                .isVerified(true)
+                .contactDetails(new ContactDetails(phone + "@example.com", phone, phone))
+                .address(new Address("1 MG Road", "Bangalore", "Karnataka", "560001", "India"))
+                .businessHours(new BusinessHours(LocalTime.of(9, 0), LocalTime.of(21, 0), Set.of(DayOfWeek.SUNDAY)))
+                .build());
+        walletRepository.save(new Wallet(dealer.getId(), credits));
+        return dealer.getId();
+    }
+
+    private List<UUID> newLeads(int count) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(leadRepository.save(Lead.builder()
+                    .customerName("Customer " + i)
+                    .customerPhone("9000000" + String.format("%03d", i))
+                    .vehicleModel("Honda City")
+                    .vehicleYear("2022")
+                    .status(LeadStatus.NEW)
+                    .leadCost(50)
+                    .createdAt(LocalDateTime.now().minusMinutes(i))
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
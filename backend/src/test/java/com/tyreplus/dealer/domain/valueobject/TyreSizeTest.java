@@ -0,0 +1,91 @@
+package com.tyreplus.dealer.domain.valueobject;
+
+import com.tyreplus.dealer.domain.valueobject.TyreSize.Construction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TyreSizeTest {
+
+    @Test
+    void parsesAMetricSizeWithItsRating() {
+        assertThat(TyreSize.parse("195/55 R16 91V"))
+                .isEqualTo(new TyreSize(195, 55, Construction.RADIAL, 16, 91, "V"));
+    }
+
+    @Test
+    void convertsInchWidthsToMillimetres() {
+        assertThat(TyreSize.parse("2.75-17"))
+                .isEqualTo(new TyreSize(70, 0, Construction.DIAGONAL, 17, null, null));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            // raw                | canonical
+            "195/55 R16 91V       | 195/55 R16 91V",
+            "195/55ZR16           | 195/55 R16",
+            " 195 / 55 r16 91v    | 195/55 R16 91V",
+            "90/90-12             | 90/90-12",
+            "90/100-10 53J        | 90/100-10 53J",
+            "100/80-17 52A4       | 100/80-17 52A4",
+            "120/80 B17           | 120/80 B17",
+            "2.75-17              | 2.75-17",
+            "4.00-8               | 4.00-8",
+            "4.50-10              | 4.50-10",
+            "3.00-10 42K          | 3.00-10 42K",
+            "195/55 R16 91X       | 195/55 R16",
+            "195/55 R16 999V      | 195/55 R16",
+    })
+    void printsTheCanonicalDesignation(String raw, String canonical) {
+        TyreSize size = TyreSize.parse(raw);
+
+        assertThat(size).hasToString(canonical);
+        assertThat(TyreSize.parse(size.toString()).toString()).isEqualTo(canonical);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "garbage", "195/55", "195/155 R16", "195/55 R70", "00/55 R16", "99.99-17",
+            "195/55 R16 91VV"})
+    void doesNotParseUnrecognisedOrOutOfRangeSizes(String raw) {
+        assertThat(TyreSize.tryParse(raw)).isEmpty();
+        assertThatThrownBy(() -> TyreSize.parse(raw)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryParseAcceptsNull() {
+        assertThat(TyreSize.tryParse(null)).isEmpty();
+    }
+
+    @Test
+    void encodeRoundTripsEveryField() {
+        Stream.of("195/55 R16 91V", "120/70 ZR17 58W", "90/90-12", "2.75-17", "100/80-17 52A4", "120/80 B17 62P",
+                        "335/99 R63 150Z", "10/10-1")
+                .map(TyreSize::parse)
+                .forEach(size -> assertThat(TyreSize.decode(size.encode())).isEqualTo(size));
+    }
+
+    @Test
+    void encodedValuesOrderByRimThenWidthThenAspectRatio() {
+        List<TyreSize> sorted = Stream.of("205/55 R16", "195/65 R15", "195/55 R16", "195/55 R16 91V", "90/90-12")
+                .map(TyreSize::parse)
+                .sorted()
+                .toList();
+
+        assertThat(sorted).extracting(TyreSize::toString)
+                .containsExactly("90/90-12", "195/65 R15", "195/55 R16", "195/55 R16 91V", "205/55 R16");
+        assertThat(sorted.get(2).encode()).isLessThan(sorted.get(3).encode());
+    }
+
+    @Test
+    void fitsIgnoresTheRating() {
+        assertThat(TyreSize.parse("195/55 R16 91V").fits(TyreSize.parse("195/55ZR16"))).isTrue();
+        assertThat(TyreSize.parse("195/55 R16").fits(TyreSize.parse("195/60 R16"))).isFalse();
+    }
+}
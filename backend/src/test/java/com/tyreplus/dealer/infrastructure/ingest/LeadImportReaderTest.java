@@ -0,0 +1,82 @@
+package com.tyreplus.dealer.infrastructure.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tyreplus.dealer.application.port.LeadImportSource.Record;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static com.tyreplus.dealer.infrastructure.ingest.LeadImportReader.MAX_FIELD_LENGTH;
+import static com.tyreplus.dealer.infrastructure.ingest.LeadImportReader.MAX_RECORD_LENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Oversized fields and records are rejected instead of buffered, and reading resumes
+ * at the next record where the boundary can still be found.
+ */
+class LeadImportReaderTest {
+
+    private static final String HEADER = "customer_name,customer_phone,vehicle_model,lead_cost\n";
+
+    @Test
+    void csvRejectsAnOversizedFieldAndKeepsReading() throws IOException {
+        String csv = HEADER
+                + "\"" + "a".repeat(MAX_FIELD_LENGTH + 1) + "\",9000000001,Swift,100\n"
+                + "Ravi,9000000002,City,150\n";
+        try (LeadImportReader reader = csv(csv)) {
+            Record first = reader.next();
+            assertThat(first.line()).isEqualTo(2);
+            assertThat(first.error()).startsWith("Field 1 is longer");
+
+            Record second = reader.next();
+            assertThat(second.line()).isEqualTo(3);
+            assertThat(second.row().customerName()).isEqualTo("Ravi");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void csvSkipsAnOversizedRecordToTheEndOfItsLine() throws IOException {
+        String csv = HEADER
+                + ",".repeat(MAX_RECORD_LENGTH + 10) + "\n"
+                + "Ravi,9000000002,City,150\n";
+        try (LeadImportReader reader = csv(csv)) {
+            assertThat(reader.next().error()).startsWith("Record is longer");
+            assertThat(reader.next().row().customerName()).isEqualTo("Ravi");
+        }
+    }
+
+    @Test
+    void csvFailsOnAnUnterminatedQuote() throws IOException {
+        String csv = HEADER
+                + "\"Ravi,9000000002,City,150\n"
+                + "Asha,9000000003,City,150\n".repeat(MAX_RECORD_LENGTH / 10);
+        try (LeadImportReader reader = csv(csv)) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("unterminated quote");
+        }
+    }
+
+    @Test
+    void ndjsonRejectsAnOversizedLineAndKeepsReading() throws IOException {
+        String ndjson = "{\"customerName\":\"" + "a".repeat(MAX_RECORD_LENGTH) + "\"}\n"
+                + "{\"customerName\":\"Ravi\",\"leadCost\":150}\n";
+        try (LeadImportReader reader = LeadImportReader.open(LeadImportReader.Format.NDJSON,
+                new StringReader(ndjson), new ObjectMapper())) {
+            Record first = reader.next();
+            assertThat(first.line()).isEqualTo(1);
+            assertThat(first.error()).startsWith("Line is longer");
+
+            Record second = reader.next();
+            assertThat(second.line()).isEqualTo(2);
+            assertThat(second.row().customerName()).isEqualTo("Ravi");
+        }
+    }
+
+    private static LeadImportReader csv(String text) throws IOException {
+        return LeadImportReader.open(LeadImportReader.Format.CSV, new StringReader(text), new ObjectMapper());
+    }
+}
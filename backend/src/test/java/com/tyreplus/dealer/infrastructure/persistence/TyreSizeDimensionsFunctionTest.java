@@ -0,0 +1,107 @@
+package com.tyreplus.dealer.infrastructure.persistence;
+
+import com.tyreplus.dealer.domain.valueobject.TyreSize;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tyre_size_dimensions() in V11 and TyreSize.tryParse carry the same patterns and ranges;
+ * the SQL side fills the indexed tyres columns, the Java side parses the vehicle sizes that
+ * are looked up against them. Any size they read differently would silently never match.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TyreSizeDimensionsFunctionTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // Edge cases the seed data does not exercise: suffix handling, range limits, junk
+    private static final List<String> EDGE_CASES = List.of(
+            "195/55 R16 91V", "195/55ZR16", " 195 / 55 r16 91v ", "120/70 ZR17 58W", "100/80-17 52A4",
+            "120/80 B17 62P", "3.00-10 42K", "195/55 R16 91X", "195/55 R16 999V", "195/55 R16 91A",
+            "195/155 R16", "195/55 R70", "00/55 R16", "99.99-17", "195/55", "garbage", "");
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        new ResourceDatabasePopulator(new ClassPathResource("data.sql")).execute(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void seedSizesParseTheSameInSqlAndJava() {
+        Map<String, String> sql = dimensionsInSql("""
+                SELECT size, tyre_size_dimensions(size) FROM tyres
+                UNION
+                SELECT tyre_size, tyre_size_dimensions(tyre_size) FROM vehicles
+                """);
+
+        assertThat(sql).isNotEmpty();
+        assertThat(sql.values()).doesNotContainNull();
+        assertThat(sql).isEqualTo(dimensionsInJava(sql.keySet()));
+    }
+
+    @Test
+    void edgeCasesParseTheSameInSqlAndJava() {
+        Map<String, String> sql = new LinkedHashMap<>();
+        for (String size : EDGE_CASES) {
+            sql.putAll(dimensionsInSql("SELECT CAST(? AS TEXT), tyre_size_dimensions(?)", size, size));
+        }
+
+        assertThat(sql).isEqualTo(dimensionsInJava(EDGE_CASES));
+    }
+
+    @Test
+    void generatedColumnsMatchTheParsedSize() {
+        List<Map.Entry<String, String>> rows = jdbc.query(
+                "SELECT size, size_width, size_aspect_ratio, size_rim_diameter FROM tyres",
+                (rs, i) -> Map.entry(rs.getString(1),
+                        List.of(rs.getInt(2), rs.getInt(3), rs.getInt(4)).toString()));
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> assertThat(row.getValue())
+                .isEqualTo(dimensionsInJava(List.of(row.getKey())).get(row.getKey())));
+    }
+
+    private static Map<String, String> dimensionsInSql(String query, Object... args) {
+        Map<String, String> dimensions = new LinkedHashMap<>();
+        jdbc.query(query, rs -> {
+            dimensions.put(rs.getString(1), format(rs.getArray(2)));
+        }, args);
+        return dimensions;
+    }
+
+    private static Map<String, String> dimensionsInJava(Iterable<String> sizes) {
+        Map<String, String> dimensions = new LinkedHashMap<>();
+        for (String size : sizes) {
+            dimensions.put(size, TyreSize.tryParse(size)
+                    .map(parsed -> List.of(parsed.width(), parsed.aspectRatio(), parsed.rimDiameter()).toString())
+                    .orElse(null));
+        }
+        return dimensions;
+    }
+
+    private static String format(Array array) throws SQLException {
+        return array == null ? null : Arrays.toString((Object[]) array.getArray());
+    }
+}
@@ -0,0 +1,116 @@
+package com.tyreplus.dealer.infrastructure.persistence.adapter;
+
+import com.tyreplus.dealer.domain.entity.Lead;
+import com.tyreplus.dealer.domain.entity.LeadStatus;
+import com.tyreplus.dealer.domain.entity.Wallet;
+import com.tyreplus.dealer.infrastructure.cache.LeadCache;
+import com.tyreplus.dealer.infrastructure.persistence.mapper.LeadMapper;
+import com.tyreplus.dealer.infrastructure.persistence.mapper.WalletMapper;
+import com.tyreplus.dealer.infrastructure.realtime.LeadEventPublisher;
+import com.tyreplus.dealer.support.SqlStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the write path of the lead and wallet adapters: saving an entity read in the same
+ * transaction must not re-read it or flush early, only the UPDATE at commit.
+ * Runs on H2 with just the lead and wallet tables, so unlike {@link
+ * com.tyreplus.dealer.application.service.LeadUseCaseStatementCountTest} it needs no Docker.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.sql.init.schema-locations=classpath:h2/lead-wallet-schema.sql",
+        "spring.sql.init.data-locations=optional:classpath:h2/none.sql",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tyreplus.dealer.support.SqlStatementCounter"})
+@Import({LeadRepositoryAdapter.class, LeadMapper.class, LeadCache.class,
+        WalletRepositoryAdapter.class, WalletMapper.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryAdapterStatementCountTest {
+
+    @MockitoBean
+    private LeadEventPublisher leadEventPublisher;
+
+    @Autowired
+    private LeadRepositoryAdapter leadRepository;
+    @Autowired
+    private WalletRepositoryAdapter walletRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void leadSaveAfterTransactionalReadIssuesNoStatementOfItsOwn() {
+        UUID leadId = leadRepository.save(Lead.builder()
+                .customerName("Customer")
+                .customerPhone("9000000001")
+                .vehicleModel("Honda City")
+                .status(LeadStatus.NEW)
+                .leadCost(50)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+        // Warm the cache, so a read that used it would make save() re-read the row
+        leadRepository.findById(leadId);
+
+        int onSave = transactionTemplate.execute(tx -> {
+            Lead lead = leadRepository.findById(leadId).orElseThrow();
+            lead.setStatus(LeadStatus.CANCELLED);
+            return SqlStatementCounter.count(() -> leadRepository.save(lead));
+        });
+
+        assertThat(onSave).isZero();
+        assertThat(leadRepository.findById(leadId)).get()
+                .extracting(Lead::getStatus).isEqualTo(LeadStatus.CANCELLED);
+    }
+
+    @Test
+    void walletSaveAfterTransactionalReadIssuesNoStatementOfItsOwn() {
+        UUID dealerId = UUID.randomUUID();
+        walletRepository.save(new Wallet(dealerId, 100));
+
+        int onSave = transactionTemplate.execute(tx -> {
+            Wallet wallet = walletRepository.findByDealerId(dealerId).orElseThrow();
+            wallet.deduct(40);
+            return SqlStatementCounter.count(() -> walletRepository.save(wallet));
+        });
+
+        assertThat(onSave).isZero();
+        assertThat(walletRepository.findByDealerId(dealerId)).get()
+                .extracting(Wallet::getTotalCredits).isEqualTo(60);
+    }
+
+    @Test
+    void committingTheSavedLeadIsOneUpdate() {
+        UUID leadId = leadRepository.save(Lead.builder()
+                .customerName("Customer")
+                .customerPhone("9000000002")
+                .vehicleModel("Honda City")
+                .status(LeadStatus.NEW)
+                .leadCost(50)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+
+        int readOnly = SqlStatementCounter.count(() -> transactionTemplate.executeWithoutResult(
+                tx -> leadRepository.findById(leadId)));
+        int readAndSave = SqlStatementCounter.count(() -> transactionTemplate.executeWithoutResult(tx -> {
+            Lead lead = leadRepository.findById(leadId).orElseThrow();
+            lead.setStatus(LeadStatus.CANCELLED);
+            leadRepository.save(lead);
+        }));
+
+        assertThat(readAndSave).isEqualTo(readOnly + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.tyreplus.dealer.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * OTP and login budgets are per mobile number or identifier, not per client address, so
+ * callers behind one proxy do not lock each other out.
+ */
+class RateLimitingFilterTest {
+
+    @SuppressWarnings("unchecked")
+    private final RateLimitingFilter filter = new RateLimitingFilter(null, new ObjectMapper(),
+            mock(ObjectProvider.class), new SimpleMeterRegistry(), true, 1_000);
+
+    @Test
+    void otpBudgetIsPerMobileNotPerAddress() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(sendOtp("9000000001").getStatus()).isEqualTo(200);
+        }
+        assertThat(sendOtp("9000000001").getStatus()).isEqualTo(429);
+        assertThat(sendOtp("9000000002").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void controllerStillReadsTheWholeBody() throws Exception {
+        String body = "{\"identifier\":\"Dealer@Example.com\",\"password\":\"" + "x".repeat(10_000) + "\"}";
+        MockHttpServletRequest request = post("/api/v1/auth/login", body);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest passedOn = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(passedOn.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    private MockHttpServletResponse sendOtp(String mobile) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("/api/v1/auth/quick/send-otp", "{\"mobile\":\"" + mobile + "\"}"), response,
+                new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest post(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        // Every caller arrives through the same proxy address
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,61 @@
+package com.tyreplus.dealer.infrastructure.sms;
+
+import com.tyreplus.dealer.application.service.SmsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A batch that partly fails is retried for the undelivered messages only, so the ones
+ * already sent are not sent again.
+ */
+class AsyncSmsServiceTest {
+
+    @Test
+    void retriesOnlyTheMessagesThatWereNotDelivered() throws InterruptedException {
+        Map<String, Integer> deliveries = new ConcurrentHashMap<>();
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        CountDownLatch queued = new CountDownLatch(1);
+        // No bulk API: the default sendBatch goes message by message
+        SmsService gateway = (mobile, message) -> {
+            if (mobile.equals("9000000000")) {
+                awaitQuietly(queued);
+                return;
+            }
+            if (mobile.equals("9000000002") && failedOnce.compareAndSet(false, true)) {
+                throw new IllegalStateException("gateway timeout");
+            }
+            deliveries.merge(mobile, 1, Integer::sum);
+        };
+        AsyncSmsService sms = new AsyncSmsService(gateway, new AsyncSmsService.Settings(
+                10, 1, 10, 3, Duration.ofMillis(10), Duration.ofMillis(100), Duration.ofSeconds(5)),
+                new SimpleMeterRegistry());
+
+        // Holds the worker so the next three are drained as one batch
+        sms.sendSms("9000000000", "Your OTP is 000000");
+        for (String mobile : List.of("9000000001", "9000000002", "9000000003")) {
+            sms.sendSms(mobile, "Your OTP is 123456");
+        }
+        queued.countDown();
+        sms.close();
+
+        assertThat(deliveries).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "9000000001", 1, "9000000002", 1, "9000000003", 1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
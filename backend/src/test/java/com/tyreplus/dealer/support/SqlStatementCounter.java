@@ -0,0 +1,38 @@
+package com.tyreplus.dealer.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered through hibernate.session_factory.statement_inspector in the tests that
+ * pin down how many round trips a use case may cost.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Runs the action and returns how many statements it issued on this thread.
+     */
+    public static int count(Runnable action) {
+        COUNT.get()[0] = 0;
+        try {
+            action.run();
+            return COUNT.get()[0];
+        } finally {
+            COUNT.remove();
+        }
+    }
+
+    public static <T> int count(Supplier<T> action) {
+        return count((Runnable) action::get);
+    }
+}
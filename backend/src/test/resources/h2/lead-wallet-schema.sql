@@ -0,0 +1,28 @@
+-- Just the tables the H2 adapter tests touch, shaped like V1 minus the PostgreSQL types
+CREATE TABLE leads (
+    id UUID PRIMARY KEY,
+    customer_name VARCHAR(255) NOT NULL,
+    customer_phone VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255),
+    vehicle_model VARCHAR(255) NOT NULL,
+    vehicle_year VARCHAR(255),
+    status VARCHAR(32) NOT NULL DEFAULT 'NEW',
+    lead_cost INTEGER NOT NULL,
+    purchased_by_dealer_id UUID,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    purchased_at TIMESTAMP
+);
+
+CREATE TABLE lead_skips (
+    lead_id UUID NOT NULL REFERENCES leads(id) ON DELETE CASCADE,
+    dealer_id UUID NOT NULL,
+    PRIMARY KEY (lead_id, dealer_id)
+);
+
+CREATE TABLE wallets (
+    id UUID PRIMARY KEY,
+    dealer_id UUID NOT NULL UNIQUE,
+    purchased_credits INTEGER NOT NULL DEFAULT 0,
+    bonus_credits INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
+);